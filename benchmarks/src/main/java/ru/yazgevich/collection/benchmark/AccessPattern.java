@@ -0,0 +1,39 @@
+package ru.yazgevich.collection.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * The orders in which benchmarks visit the positions of a list.
+ */
+public enum AccessPattern {
+    SEQUENTIAL,
+    RANDOM,
+    HEAD,
+    TAIL;
+
+    /**
+     * The number of precomputed positions. Benchmarks cycle through them.
+     */
+    public static final int INDEX_COUNT = 1024;
+
+    /**
+     * Precomputes the positions to visit in a list of the specified size.
+     * Sequential positions ascend in equal steps across the whole list.
+     *
+     * @param size size of the list, must be positive
+     * @return {@link #INDEX_COUNT} positions within {@code [0, size)}
+     */
+    public int[] indices(int size) {
+        int[] indices = new int[INDEX_COUNT];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = switch (this) {
+                case SEQUENTIAL -> (int) ((long) i * size / INDEX_COUNT);
+                case RANDOM -> random.nextInt(size);
+                case HEAD -> 0;
+                case TAIL -> size - 1;
+            };
+        }
+        return indices;
+    }
+}
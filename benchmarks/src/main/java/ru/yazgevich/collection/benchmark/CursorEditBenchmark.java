@@ -0,0 +1,74 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yazgevich.collection.GapBufferList;
+import ru.yazgevich.collection.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Editor-like workload: a cursor starts in the middle of the list, an element is typed at the cursor and then
+ * erased with backspace, and every {@code 64} edits the cursor moves a few positions. The size of the list stays constant.
+ * Compares {@link GapBufferList} with {@link MyArrayList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorEditBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private GapBufferList<Integer> gapBuffer;
+    private MyArrayList<Integer> arrayList;
+    private int cursor;
+    private int edits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gapBuffer = new GapBufferList<>();
+        arrayList = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            gapBuffer.add(i);
+            arrayList.add(i);
+        }
+        cursor = size / 2;
+    }
+
+    private int moveCursor() {
+        if ((++edits & 63) == 0) {
+            cursor = (cursor + 7) % size;
+        }
+        return cursor;
+    }
+
+    @Benchmark
+    public Object gapBuffer() {
+        int index = moveCursor();
+        gapBuffer.add(index, ELEMENT);
+        return gapBuffer.remove(index);
+    }
+
+    @Benchmark
+    public Object myArrayList() {
+        int index = moveCursor();
+        arrayList.add(index, ELEMENT);
+        return arrayList.remove(index);
+    }
+}
@@ -0,0 +1,160 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yazgevich.collection.LockFreeLinkedDeque;
+import ru.yazgevich.collection.MyLinkedList;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-producer/multi-consumer throughput of deques: producers add to both ends, consumers poll from both ends.
+ * By default eight producers and eight consumers run; other thread counts are set with {@code -tg},
+ * e.g. {@code -tg 1,1}, {@code -tg 4,4} and {@code -tg 16,16} to see how the throughput scales.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DequeBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"LOCK_FREE", "SYNCHRONIZED_MY_LINKED_LIST", "CONCURRENT_LINKED_DEQUE"})
+    private Type type;
+
+    private Deque deque;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        deque = type.create();
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(8)
+    public void producer() {
+        deque.addFirst(ELEMENT);
+        deque.addLast(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(8)
+    public Object consumer() {
+        Object first = deque.pollFirst();
+        return first != null ? first : deque.pollLast();
+    }
+
+    private interface Deque {
+
+        void addFirst(Integer e);
+
+        void addLast(Integer e);
+
+        Integer pollFirst();
+
+        Integer pollLast();
+    }
+
+    public enum Type {
+        LOCK_FREE {
+            @Override
+            Deque create() {
+                LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+                return new Deque() {
+                    @Override
+                    public void addFirst(Integer e) {
+                        deque.addFirst(e);
+                    }
+
+                    @Override
+                    public void addLast(Integer e) {
+                        deque.addLast(e);
+                    }
+
+                    @Override
+                    public Integer pollFirst() {
+                        return deque.pollFirst();
+                    }
+
+                    @Override
+                    public Integer pollLast() {
+                        return deque.pollLast();
+                    }
+                };
+            }
+        },
+        SYNCHRONIZED_MY_LINKED_LIST {
+            @Override
+            Deque create() {
+                MyLinkedList<Integer> list = new MyLinkedList<>();
+                return new Deque() {
+                    @Override
+                    public synchronized void addFirst(Integer e) {
+                        list.addFirst(e);
+                    }
+
+                    @Override
+                    public synchronized void addLast(Integer e) {
+                        list.addLast(e);
+                    }
+
+                    @Override
+                    public synchronized Integer pollFirst() {
+                        return list.size() == 0 ? null : list.remove(0);
+                    }
+
+                    @Override
+                    public synchronized Integer pollLast() {
+                        return list.size() == 0 ? null : list.remove(list.size() - 1);
+                    }
+                };
+            }
+        },
+        CONCURRENT_LINKED_DEQUE {
+            @Override
+            Deque create() {
+                ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+                return new Deque() {
+                    @Override
+                    public void addFirst(Integer e) {
+                        deque.addFirst(e);
+                    }
+
+                    @Override
+                    public void addLast(Integer e) {
+                        deque.addLast(e);
+                    }
+
+                    @Override
+                    public Integer pollFirst() {
+                        return deque.pollFirst();
+                    }
+
+                    @Override
+                    public Integer pollLast() {
+                        return deque.pollLast();
+                    }
+                };
+            }
+        };
+
+        abstract Deque create();
+    }
+}
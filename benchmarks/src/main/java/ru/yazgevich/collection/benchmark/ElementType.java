@@ -0,0 +1,27 @@
+package ru.yazgevich.collection.benchmark;
+
+/**
+ * The kinds of elements the lists are filled with. Hashing, comparing and printing costs differ a lot between them.
+ */
+public enum ElementType {
+    INTEGER {
+        @Override
+        public Object create(int i) {
+            return i;
+        }
+    },
+    STRING {
+        @Override
+        public Object create(int i) {
+            return "element-" + i;
+        }
+    };
+
+    /**
+     * Creates the element with the specified number. Equal numbers give equal elements.
+     *
+     * @param i number of the element
+     * @return a new element
+     */
+    public abstract Object create(int i);
+}
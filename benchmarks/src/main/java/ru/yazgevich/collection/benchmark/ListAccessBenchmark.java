@@ -0,0 +1,83 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures positional operations: {@code get}, {@code set} and a paired {@code add(index)} / {@code remove(index)}
+ * which keeps the size of the list constant. The positions are visited in the order given by {@link AccessPattern}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAccessBenchmark {
+
+    @Param({"MY_ARRAY_LIST", "ARRAY_LIST", "MY_LINKED_LIST", "LINKED_LIST"})
+    private ListAdapter.Type type;
+
+    @Param({"INTEGER", "STRING"})
+    private ElementType elementType;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "HEAD", "TAIL"})
+    private AccessPattern pattern;
+
+    private ListAdapter<Object> list;
+    private Object[] elements;
+    private int[] indices;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = type.create();
+        for (int i = 0; i < size; i++) {
+            list.add(elementType.create(i));
+        }
+        elements = new Object[AccessPattern.INDEX_COUNT];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = elementType.create(i);
+        }
+        indices = pattern.indices(size);
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (i + 1) & (AccessPattern.INDEX_COUNT - 1);
+        return i;
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(indices[next()]);
+    }
+
+    @Benchmark
+    public Object set() {
+        int i = next();
+        return list.set(indices[i], elements[i]);
+    }
+
+    @Benchmark
+    public Object addAndRemove() {
+        int i = next();
+        list.add(indices[i], elements[i]);
+        return list.remove(indices[i]);
+    }
+}
@@ -0,0 +1,189 @@
+package ru.yazgevich.collection.benchmark;
+
+import ru.yazgevich.collection.MyArrayList;
+import ru.yazgevich.collection.MyLinkedList;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A common view of the measured lists, so that every benchmark runs the same code against
+ * {@link MyArrayList}, {@link MyLinkedList} and their {@code java.util} counterparts.
+ *
+ * @param <E> - the type of elements in the list
+ */
+public interface ListAdapter<E> {
+
+    void add(E e);
+
+    void add(int index, E e);
+
+    E get(int index);
+
+    E set(int index, E e);
+
+    E remove(int index);
+
+    Object subList(int fromIndex, int toIndex);
+
+    int size();
+
+    /**
+     * Returns the adapted list itself, used for {@code equals}, {@code hashCode} and {@code toString}.
+     *
+     * @return the adapted list
+     */
+    Object list();
+
+    static <E> ListAdapter<E> of(MyArrayList<E> list) {
+        return new ListAdapter<>() {
+            @Override
+            public void add(E e) {
+                list.add(e);
+            }
+
+            @Override
+            public void add(int index, E e) {
+                list.add(index, e);
+            }
+
+            @Override
+            public E get(int index) {
+                return list.get(index);
+            }
+
+            @Override
+            public E set(int index, E e) {
+                return list.set(index, e);
+            }
+
+            @Override
+            public E remove(int index) {
+                return list.remove(index);
+            }
+
+            @Override
+            public Object subList(int fromIndex, int toIndex) {
+                return list.subList(fromIndex, toIndex);
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+
+            @Override
+            public Object list() {
+                return list;
+            }
+        };
+    }
+
+    static <E> ListAdapter<E> of(MyLinkedList<E> list) {
+        return new ListAdapter<>() {
+            @Override
+            public void add(E e) {
+                list.add(e);
+            }
+
+            @Override
+            public void add(int index, E e) {
+                list.add(index, e);
+            }
+
+            @Override
+            public E get(int index) {
+                return list.get(index);
+            }
+
+            @Override
+            public E set(int index, E e) {
+                return list.set(index, e);
+            }
+
+            @Override
+            public E remove(int index) {
+                return list.remove(index);
+            }
+
+            @Override
+            public Object subList(int fromIndex, int toIndex) {
+                return list.subList(fromIndex, toIndex);
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+
+            @Override
+            public Object list() {
+                return list;
+            }
+        };
+    }
+
+    static <E> ListAdapter<E> of(List<E> list) {
+        return new ListAdapter<>() {
+            @Override
+            public void add(E e) {
+                list.add(e);
+            }
+
+            @Override
+            public void add(int index, E e) {
+                list.add(index, e);
+            }
+
+            @Override
+            public E get(int index) {
+                return list.get(index);
+            }
+
+            @Override
+            public E set(int index, E e) {
+                return list.set(index, e);
+            }
+
+            @Override
+            public E remove(int index) {
+                return list.remove(index);
+            }
+
+            @Override
+            public Object subList(int fromIndex, int toIndex) {
+                return list.subList(fromIndex, toIndex);
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+
+            @Override
+            public Object list() {
+                return list;
+            }
+        };
+    }
+
+    /**
+     * The measured list implementations.
+     */
+    enum Type {
+        MY_ARRAY_LIST,
+        ARRAY_LIST,
+        MY_LINKED_LIST,
+        LINKED_LIST;
+
+        public <E> ListAdapter<E> create() {
+            return switch (this) {
+                case MY_ARRAY_LIST -> of(new MyArrayList<E>());
+                case ARRAY_LIST -> of(new ArrayList<E>());
+                case MY_LINKED_LIST -> of(new MyLinkedList<E>());
+                case LINKED_LIST -> of(new LinkedList<E>());
+            };
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures operations over the whole list: filling it by {@code add}, {@code equals}, {@code hashCode},
+ * {@code toString} and taking the middle half by {@code subList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBulkBenchmark {
+
+    @Param({"MY_ARRAY_LIST", "ARRAY_LIST", "MY_LINKED_LIST", "LINKED_LIST"})
+    private ListAdapter.Type type;
+
+    @Param({"INTEGER", "STRING"})
+    private ElementType elementType;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Object[] elements;
+    private ListAdapter<Object> list;
+    private ListAdapter<Object> copy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = elementType.create(i);
+        }
+        list = fill();
+        copy = fill();
+    }
+
+    private ListAdapter<Object> fill() {
+        ListAdapter<Object> list = type.create();
+        for (Object e : elements) {
+            list.add(e);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object add() {
+        return fill();
+    }
+
+    @Benchmark
+    public boolean equalsCopy() {
+        return list.list().equals(copy.list());
+    }
+
+    @Benchmark
+    public int hashCodeAll() {
+        return list.list().hashCode();
+    }
+
+    @Benchmark
+    public String toStringAll() {
+        return list.list().toString();
+    }
+
+    @Benchmark
+    public Object subList() {
+        return list.subList(size / 4, size - size / 4);
+    }
+}
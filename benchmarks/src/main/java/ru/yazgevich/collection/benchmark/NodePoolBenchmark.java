@@ -0,0 +1,56 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yazgevich.collection.MyLinkedList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a steady queue-like churn on {@link MyLinkedList}: every operation appends one element and removes
+ * the first one, so the size stays constant. Run with {@code -prof gc} to compare the allocation rate
+ * without a node pool ({@code poolSize=0}) and with one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePoolBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"1024"})
+    private int size;
+
+    @Param({"0", "64"})
+    private int poolSize;
+
+    private MyLinkedList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new MyLinkedList<>();
+        list.setNodePoolSize(poolSize);
+        for (int i = 0; i < size; i++) {
+            list.addLast(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        list.addLast(ELEMENT);
+        return list.remove(0);
+    }
+}
@@ -0,0 +1,97 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yazgevich.collection.IntArrayList;
+import ru.yazgevich.collection.MyArrayList;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential and the parallel sort of {@link MyArrayList} with a comparator and in natural order,
+ * and the same sorts of {@link IntArrayList}. Every invocation sorts a freshly shuffled list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SortBenchmark {
+
+    private static final Comparator<Integer> REVERSE = Comparator.reverseOrder();
+
+    @Param({"1000000", "20000000"})
+    private int size;
+
+    private Integer[] values;
+    private int[] ints;
+    private MyArrayList<Integer> list;
+    private IntArrayList intList;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new Integer[size];
+        ints = new int[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = random.nextInt();
+            values[i] = ints[i];
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        list = new MyArrayList<>(size);
+        list.addAll(values);
+        intList = new IntArrayList(ints);
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> sortNatural() {
+        list.sort(null);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> parallelSortNatural() {
+        list.parallelSort(null);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> sortComparator() {
+        list.sort(REVERSE);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> parallelSortComparator() {
+        list.parallelSort(REVERSE);
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList sortInt() {
+        intList.sort();
+        return intList;
+    }
+
+    @Benchmark
+    public IntArrayList parallelSortInt() {
+        intList.parallelSort();
+        return intList;
+    }
+}
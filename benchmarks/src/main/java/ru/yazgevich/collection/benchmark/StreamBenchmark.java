@@ -0,0 +1,52 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yazgevich.collection.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a filter/map/reduce pipeline over a sequential and a parallel stream of {@link MyArrayList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StreamBenchmark {
+
+    @Param({"1000000", "50000000"})
+    private int size;
+
+    private MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long sequential() {
+        return list.stream().filter(i -> (i & 1) == 0).mapToLong(i -> (long) i * i).sum();
+    }
+
+    @Benchmark
+    public long parallel() {
+        return list.parallelStream().filter(i -> (i & 1) == 0).mapToLong(i -> (long) i * i).sum();
+    }
+}
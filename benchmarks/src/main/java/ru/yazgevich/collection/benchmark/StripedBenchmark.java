@@ -0,0 +1,96 @@
+package ru.yazgevich.collection.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import ru.yazgevich.collection.MyArrayList;
+import ru.yazgevich.collection.StripedArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code set} and {@code get} when every thread works on its own region of a shared list.
+ * Compares {@link StripedArrayList} with {@link MyArrayList} guarded by one lock. Run with different
+ * {@code -t} values to see how the throughput scales with the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class StripedBenchmark {
+
+    /**
+     * The size of a region guarded by one stripe of {@link StripedArrayList}.
+     */
+    private static final int REGION = 1 << 10;
+    private static final int MAX_THREADS = 64;
+
+    @Param({"STRIPED", "SYNCHRONIZED_MY_ARRAY_LIST"})
+    private String type;
+
+    private StripedArrayList<Integer> striped;
+    private MyArrayList<Integer> synchronizedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        striped = new StripedArrayList<>(REGION * MAX_THREADS);
+        synchronizedList = new MyArrayList<>(REGION * MAX_THREADS);
+        for (int i = 0; i < REGION * MAX_THREADS; i++) {
+            striped.add(i);
+            synchronizedList.add(i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Region {
+
+        private int from;
+        private int cursor;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threads) {
+            from = (threads.getThreadIndex() % MAX_THREADS) * REGION;
+        }
+
+        private int next() {
+            cursor = (cursor + 1) & (REGION - 1);
+            return from + cursor;
+        }
+    }
+
+    @Benchmark
+    public Object set(Region region) {
+        int index = region.next();
+        if (type.equals("STRIPED")) {
+            return striped.set(index, index);
+        }
+        synchronized (synchronizedList) {
+            return synchronizedList.set(index, index);
+        }
+    }
+
+    @Benchmark
+    public Object get(Region region) {
+        int index = region.next();
+        if (type.equals("STRIPED")) {
+            return striped.get(index);
+        }
+        synchronized (synchronizedList) {
+            return synchronizedList.get(index);
+        }
+    }
+}
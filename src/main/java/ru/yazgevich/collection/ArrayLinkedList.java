@@ -0,0 +1,501 @@
+package ru.yazgevich.collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class is a version of {@link MyLinkedList} that keeps no node objects. The element stored in a slot
+ * and the slots of its neighbours are kept in three parallel arrays, so an element costs a reference and two
+ * {@code int} links instead of a whole node, and the links of neighbouring slots share cache lines.
+ * Removed slots are reused for new elements.
+ * <p>
+ * The slot of an element is its handle: {@link #linkFirst}, {@link #linkLast} and {@link #linkBefore} return it,
+ * and {@link #unlink(int)} removes the element in constant time. A handle stays valid until its element
+ * is removed or {@link #compact()} is called; after that it may denote another element.
+ * It implements CRUD operations, handle operations, an iterator, {@code hashCode}, {@code toString} and {@code equals}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class ArrayLinkedList<E> implements Iterable<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    /**
+     * The link which points to no slot.
+     */
+    private static final int NIL = -1;
+    /**
+     * The value of {@code prev} of a free slot.
+     */
+    private static final int FREE = -2;
+    private Object[] values;
+    private int[] next;
+    private int[] prev;
+    /**
+     * The slot of the first element of the list
+     */
+    private int head = NIL;
+    /**
+     * The slot of the last element of the list
+     */
+    private int tail = NIL;
+    /**
+     * The first slot of the list of removed slots, which are linked through {@code next}.
+     */
+    private int freeHead = NIL;
+    /**
+     * The number of slots which have ever been used. Slots from this index on have never been used.
+     */
+    private int used;
+    private int size;
+    /**
+     * The number of times this list has been structurally modified.
+     * Structural modifications are those that change the size of the list,
+     * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
+     */
+    private int modCount = 0;
+
+    /**
+     * constructs a list with a default capacity of ten.
+     */
+    public ArrayLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructs a list with specified capacity.
+     *
+     * @param capacity - an initial capacity of the list
+     */
+    public ArrayLinkedList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be < 0 : " + capacity);
+        }
+        values = new Object[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+    }
+
+    /**
+     * Constructs a new list and appends all elements from the specified collection
+     *
+     * @param c the collection of elements which will be added to the new list
+     */
+    public ArrayLinkedList(Collection<? extends E> c) {
+        this(c == null ? DEFAULT_CAPACITY : c.size());
+        if (c != null) {
+            addAll(c);
+        }
+    }
+
+    /**
+     * Adds all elements from the specified collection to this list.
+     *
+     * @param c the collection of elements which will be added to the list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        boolean modified = false;
+        for (E e : c) {
+            linkLast(e);
+            modified = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Adds the specified element to the start of the list
+     *
+     * @param e element to be inserted
+     * @see #addLast
+     */
+    public void addFirst(E e) {
+        linkFirst(e);
+    }
+
+    /**
+     * Adds the specified element to the end of the list
+     *
+     * @param e element to be appended
+     * @see #addFirst
+     */
+    public void addLast(E e) {
+        linkLast(e);
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended
+     * @return {@code true} if the specified element was added
+     * @see #addLast
+     */
+    public boolean add(E e) {
+        linkLast(e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * If the index equals the size of the list, the element is appended to the end of the list.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param e     element to be inserted
+     */
+    public void add(int index, E e) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            linkLast(e);
+        } else {
+            linkBefore(slot(index), e);
+        }
+    }
+
+    /**
+     * Adds the specified element to the start of the list.
+     *
+     * @param e element to be inserted
+     * @return the handle of the element
+     */
+    public int linkFirst(E e) {
+        return head == NIL ? linkLast(e) : linkBefore(head, e);
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended
+     * @return the handle of the element
+     */
+    public int linkLast(E e) {
+        int slot = allocate();
+        values[slot] = e;
+        prev[slot] = tail;
+        next[slot] = NIL;
+        if (tail == NIL) {
+            head = slot;
+        } else {
+            next[tail] = slot;
+        }
+        tail = slot;
+        size++;
+        modCount++;
+        return slot;
+    }
+
+    /**
+     * Inserts the specified element right before the element with the specified handle.
+     *
+     * @param handle the handle of the element before which the new element is inserted
+     * @param e      element to be inserted
+     * @return the handle of the new element
+     * @throws IllegalArgumentException if the handle does not denote an element of this list
+     */
+    public int linkBefore(int handle, E e) {
+        checkHandle(handle);
+        int slot = allocate();
+        int prevSlot = prev[handle];
+        values[slot] = e;
+        prev[slot] = prevSlot;
+        next[slot] = handle;
+        if (prevSlot == NIL) {
+            head = slot;
+        } else {
+            next[prevSlot] = slot;
+        }
+        prev[handle] = slot;
+        size++;
+        modCount++;
+        return slot;
+    }
+
+    /**
+     * Removes the element with the specified handle in constant time.
+     *
+     * @param handle the handle of the element to be removed
+     * @return the removed element
+     * @throws IllegalArgumentException if the handle does not denote an element of this list
+     */
+    @SuppressWarnings("unchecked")
+    public E unlink(int handle) {
+        checkHandle(handle);
+        E old = (E) values[handle];
+        int prevSlot = prev[handle];
+        int nextSlot = next[handle];
+        if (prevSlot == NIL) {
+            head = nextSlot;
+        } else {
+            next[prevSlot] = nextSlot;
+        }
+        if (nextSlot == NIL) {
+            tail = prevSlot;
+        } else {
+            prev[nextSlot] = prevSlot;
+        }
+        values[handle] = null;
+        prev[handle] = FREE;
+        next[handle] = freeHead;
+        freeHead = handle;
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Returns the element with the specified handle.
+     *
+     * @param handle the handle of the element
+     * @return the element
+     * @throws IllegalArgumentException if the handle does not denote an element of this list
+     */
+    @SuppressWarnings("unchecked")
+    public E element(int handle) {
+        checkHandle(handle);
+        return (E) values[handle];
+    }
+
+    /**
+     * Returns the element from the list at the specified position.
+     *
+     * @param index position of the element to return
+     * @return element at the specified position
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) values[slot(index)];
+    }
+
+    /**
+     * Replace the values in the list at the specified position with the specified value.
+     *
+     * @param index   position of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int slot = slot(index);
+        E old = (E) values[slot];
+        values[slot] = element;
+        return old;
+    }
+
+    /**
+     * Removes an element from the list at the specified position.
+     *
+     * @param index the position of the element to be removed
+     * @return the removed element
+     */
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        return unlink(slot(index));
+    }
+
+    /**
+     * Moves the elements into the slots {@code 0 .. size - 1} in list order and trims the arrays to the size,
+     * so that traversal reads the arrays sequentially. All handles become invalid.
+     */
+    public void compact() {
+        Object[] newValues = new Object[size];
+        int[] newNext = new int[size];
+        int[] newPrev = new int[size];
+        int slot = head;
+        for (int i = 0; i < size; i++, slot = next[slot]) {
+            newValues[i] = values[slot];
+            newPrev[i] = i - 1;
+            newNext[i] = i + 1;
+        }
+        if (size > 0) newNext[size - 1] = NIL;
+        values = newValues;
+        next = newNext;
+        prev = newPrev;
+        head = size == 0 ? NIL : 0;
+        tail = size - 1;
+        freeHead = NIL;
+        used = size;
+        modCount++;
+    }
+
+    /**
+     * Returns the slot of the element at the specified position.
+     * The walk starts from {@code head} or {@code tail}, whichever is closer.
+     *
+     * @param index position of the element, must be a valid index
+     */
+    private int slot(int index) {
+        int slot;
+        if (index < (size >> 1)) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = size - 1; i > index; i--) {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Takes a removed slot, or the first never used slot, growing the arrays if there is none.
+     */
+    private int allocate() {
+        int slot = freeHead;
+        if (slot != NIL) {
+            freeHead = next[slot];
+            return slot;
+        }
+        if (used == values.length) grow(used + 1);
+        return used++;
+    }
+
+    /**
+     * Doubles the length of the arrays, but makes it no less than {@code minCapacity}.
+     * If the length of the arrays is less than 10 then value for length is set to at least 10.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("required capacity " + Integer.toUnsignedString(minCapacity));
+        }
+        long doubled = Math.max(2L * values.length, DEFAULT_CAPACITY);
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), MAX_ARRAY_SIZE);
+        values = Arrays.copyOf(values, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the handle does not denote an element of this list
+     */
+    private void checkHandle(int handle) {
+        if (handle < 0 || handle >= used || prev[handle] == FREE) {
+            throw new IllegalArgumentException("invalid handle " + handle);
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     * The iterator supports {@code remove} and is fail-fast.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int nextSlot = head;
+            private int lastReturned = NIL;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot != NIL;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                equalsModCount(expectedModCount);
+                if (nextSlot == NIL) throw new NoSuchElementException();
+                lastReturned = nextSlot;
+                nextSlot = next[nextSlot];
+                return (E) values[lastReturned];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == NIL) throw new IllegalStateException();
+                equalsModCount(expectedModCount);
+                unlink(lastReturned);
+                lastReturned = NIL;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            ListWriter writer = new ListWriter(sb, Integer.MAX_VALUE);
+            for (int slot = head; slot != NIL; slot = next[slot]) {
+                writer.write(values[slot]);
+            }
+            writer.finish(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if structural changes modified have been made.
+     *
+     * @param modCount The number of times this list has been structurally modified.
+     * @throws ConcurrentModificationException - if the list was modified during the execution of the method
+     */
+    private void equalsModCount(int modCount) {
+        if (this.modCount != modCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also an {@code ArrayLinkedList},
+     * both lists have the same size, and all corresponding pairs of elements in the two lists are equal.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArrayLinkedList<?> that)) return false;
+        int expectedModCount = modCount;
+        boolean result = size == that.size;
+        int thatSlot = that.head;
+        for (int slot = head; result && slot != NIL; slot = next[slot]) {
+            result = Objects.equals(values[slot], that.values[thatSlot]);
+            thatSlot = that.next[thatSlot];
+        }
+        equalsModCount(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Returns hash code for the list based on elements of this list.
+     * The result is the same as for a {@code java.util.List} with the same elements.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        int hash = 1;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            Object e = values[slot];
+            hash = 31 * hash + (e == null ? 0 : e.hashCode());
+        }
+        equalsModCount(expectedModCount);
+        return hash;
+    }
+}
@@ -0,0 +1,265 @@
+package ru.yazgevich.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This class is a thread-safe version of {@link MyArrayList} for read-mostly data.
+ * The elements are kept in an array referenced by a volatile field. Reads take no lock and see the latest
+ * published array; every write copies the array, changes the copy and publishes it. Writes are serialized by a lock.
+ * Many changes can be applied with one copy by {@link #update(Consumer)}.
+ * Iterators work on the array published at their creation and never throw
+ * {@link java.util.ConcurrentModificationException}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class CopyOnWriteList<E> implements Iterable<E> {
+
+    private static final Object[] EMPTY_ELEMENT_DATA = {};
+
+    /**
+     * Guards all writes.
+     */
+    private final Object lock = new Object();
+    /**
+     * The published array. Its length is always the size of the list, and it is never modified after publication.
+     */
+    private volatile Object[] elementData;
+
+    /**
+     * Constructs an empty list.
+     */
+    public CopyOnWriteList() {
+        elementData = EMPTY_ELEMENT_DATA;
+    }
+
+    /**
+     * Constructs a new list with all elements from the specified collection.
+     *
+     * @param c the collection of elements which will be added to the new list
+     */
+    public CopyOnWriteList(Collection<? extends E> c) {
+        Object[] a = c == null ? EMPTY_ELEMENT_DATA : c.toArray();
+        elementData = a.length == 0 ? EMPTY_ELEMENT_DATA : Arrays.copyOf(a, a.length, Object[].class);
+    }
+
+    /**
+     * Returns the element from the list at the specified index.
+     *
+     * @param index index of the element to return
+     * @return element at the specified position
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Object[] data = elementData;
+        Objects.checkIndex(index, data.length);
+        return (E) data[index];
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return elementData.length;
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended to this list
+     * @return {@code true} if the specified element was added
+     */
+    public boolean add(E e) {
+        synchronized (lock) {
+            Object[] data = elementData;
+            Object[] newData = Arrays.copyOf(data, data.length + 1);
+            newData[data.length] = e;
+            elementData = newData;
+            return true;
+        }
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * If the index equals the size of the list, the element is appended to the end of the list.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    public void add(int index, E element) {
+        synchronized (lock) {
+            Object[] data = elementData;
+            Objects.checkIndex(index, data.length + 1);
+            Object[] newData = new Object[data.length + 1];
+            System.arraycopy(data, 0, newData, 0, index);
+            System.arraycopy(data, index, newData, index + 1, data.length - index);
+            newData[index] = element;
+            elementData = newData;
+        }
+    }
+
+    /**
+     * Appends all elements from the specified collection to the end of this list with a single copy of the array.
+     *
+     * @param c the collection of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        if (a.length == 0) return false;
+        synchronized (lock) {
+            Object[] data = elementData;
+            Object[] newData = Arrays.copyOf(data, data.length + a.length);
+            System.arraycopy(a, 0, newData, data.length, a.length);
+            elementData = newData;
+            return true;
+        }
+    }
+
+    /**
+     * Replace the values in the list at the specified index with the specified value.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        synchronized (lock) {
+            Object[] data = elementData;
+            Objects.checkIndex(index, data.length);
+            E old = (E) data[index];
+            if (old != element) {
+                Object[] newData = data.clone();
+                newData[index] = element;
+                elementData = newData;
+            }
+            return old;
+        }
+    }
+
+    /**
+     * Removes an element from the list at the specified index
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        synchronized (lock) {
+            Object[] data = elementData;
+            Objects.checkIndex(index, data.length);
+            E old = (E) data[index];
+            Object[] newData = new Object[data.length - 1];
+            System.arraycopy(data, 0, newData, 0, index);
+            System.arraycopy(data, index + 1, newData, index, data.length - index - 1);
+            elementData = newData;
+            return old;
+        }
+    }
+
+    /**
+     * Applies a batch of changes with a single copy of the array. The specified action gets a private
+     * {@link MyArrayList} with the current elements and may modify it in any way; when the action returns,
+     * the content of that list is published at once. Readers see either all changes of the batch or none of them.
+     * The action must not keep the list or use it after it returns.
+     *
+     * @param action the changes to apply
+     */
+    public void update(Consumer<? super MyArrayList<E>> action) {
+        synchronized (lock) {
+            Object[] data = elementData;
+            MyArrayList<E> list = new MyArrayList<>(data.clone(), data.length);
+            action.accept(list);
+            elementData = list.trimmedArray();
+        }
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * (If fromIndex and toIndex are equal, the returned list is empty.)
+     * The sublist is an independent copy of the current content.
+     *
+     * @param fromIndex initial index (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    public CopyOnWriteList<E> subList(int fromIndex, int toIndex) {
+        Object[] data = elementData;
+        Objects.checkFromToIndex(fromIndex, toIndex, data.length);
+        CopyOnWriteList<E> list = new CopyOnWriteList<>();
+        if (fromIndex < toIndex) list.elementData = Arrays.copyOfRange(data, fromIndex, toIndex);
+        return list;
+    }
+
+    /**
+     * Returns an array containing all elements of this list in proper sequence.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        return elementData.clone();
+    }
+
+    /**
+     * Returns an iterator over the elements published at the moment of the call.
+     * The iterator does not support {@code remove}.
+     *
+     * @return a snapshot iterator over the elements of this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Object[] data = elementData;
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < data.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= data.length) throw new NoSuchElementException();
+                return (E) data[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Returns hash code for the list based on elements of this list.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(elementData);
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also a {@code CopyOnWriteList}
+     * and both lists contain the same elements in the same order.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CopyOnWriteList<?> that)) return false;
+        return Arrays.equals(elementData, that.elementData);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(elementData);
+    }
+}
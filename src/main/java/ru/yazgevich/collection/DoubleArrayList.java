@@ -0,0 +1,301 @@
+package ru.yazgevich.collection;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * This class is a version of {@link MyArrayList} specialized for {@code double} values.
+ * Elements are stored in a {@code double[]}, so no value is ever boxed into a {@link Double}.
+ * It implements only CRUD operations, {@code subList}, {@code hashCode}, {@code toString} and {@code equals}.
+ */
+public class DoubleArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The maximum length of the internal array. Some VMs reserve header words in an array.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final double[] EMPTY_ELEMENT_DATA = {};
+    /**
+     * The internal array of the list that stores all the elements.
+     */
+    private double[] elementData;
+    private int size;
+    /**
+     * The number of times this list has been structurally modified.
+     * Structural modifications are those that change the size of the list,
+     * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
+     */
+    private int modCount = 0;
+
+    /**
+     * constructs a list with a default capacity of ten.
+     */
+    public DoubleArrayList() {
+        elementData = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * constructs a list with specified capacity.
+     *
+     * @param capacity - an initial capacity of the list
+     */
+    public DoubleArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be < 0 : " + capacity);
+        } else {
+            elementData = capacity == 0 ? EMPTY_ELEMENT_DATA : new double[capacity];
+        }
+    }
+
+    /**
+     * Constructs a new list that contains all values from the specified array.
+     * If the specified array == {@code null}, then construct an empty list with an initial capacity of ten.
+     *
+     * @param values the values which will be added to the new list
+     */
+    public DoubleArrayList(double[] values) {
+        if (values != null && values.length > 0) {
+            elementData = Arrays.copyOf(values, values.length);
+            size = values.length;
+        } else {
+            elementData = new double[DEFAULT_CAPACITY];
+        }
+    }
+
+    /**
+     * Adds all values from the specified array to the end of this list.
+     *
+     * @param values the values which will be added to the list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(double[] values) {
+        if (values.length == 0) return false;
+        if (elementData.length - size < values.length) grow(size + values.length);
+        System.arraycopy(values, 0, elementData, size, values.length);
+        size += values.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns the value from the list at the specified index.
+     *
+     * @param index index of the value to return
+     * @return value at the specified position
+     */
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return elementData[index];
+    }
+
+    /**
+     * Adds the specified value to the end of the list.
+     *
+     * @param value value to be appended to this list
+     * @return {@code true} if the specified value was added
+     */
+    public boolean add(double value) {
+        if (elementData.length <= size) grow(size + 1);
+        elementData[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified value to the list at the specified index.
+     * Shifts the value at the specified position and all subsequent values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     */
+    public void add(int index, double value) {
+        Objects.checkIndex(index, size + 1);
+        if (elementData.length <= size) grow(size + 1);
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        elementData[index] = value;
+        modCount++;
+        size++;
+    }
+
+    /**
+     * Increases the length of the internal array so that it can hold at least {@code minCapacity} values.
+     * The length is doubled, but it is never less than ten.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("required capacity " + Integer.toUnsignedString(minCapacity));
+        }
+        long doubled = Math.max(2L * elementData.length, DEFAULT_CAPACITY);
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), MAX_ARRAY_SIZE);
+        elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+
+    /**
+     * Replace the value in the list at the specified index with the specified value.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @return the value replaced
+     */
+    public double set(int index, double value) {
+        Objects.checkIndex(index, size);
+        double old = elementData[index];
+        elementData[index] = value;
+        return old;
+    }
+
+    /**
+     * Removes a value from the list at the specified index
+     *
+     * @param index the index of the value to be removed
+     * @return the removed value
+     */
+    public double remove(int index) {
+        Objects.checkIndex(index, size);
+        double old = elementData[index];
+        System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * (If fromIndex and toIndex are equal, the returned list is empty.)
+     *
+     * @param fromIndex initial index (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    public DoubleArrayList subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        DoubleArrayList list = new DoubleArrayList(toIndex - fromIndex);
+        System.arraycopy(elementData, fromIndex, list.elementData, 0, toIndex - fromIndex);
+        list.size = toIndex - fromIndex;
+        return list;
+    }
+
+    /**
+     * Returns a copy of the values of this list.
+     *
+     * @return an array containing all values of this list in proper sequence
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Sorts the values of this list into ascending numerical order in place.
+     * The primitive values are compared directly, without boxing or a comparator.
+     */
+    public void sort() {
+        Arrays.sort(elementData, 0, size);
+        modCount++;
+    }
+
+    /**
+     * Sorts the values of this list into ascending numerical order in place, splitting the work
+     * between the threads of the common fork-join pool when the list is large enough.
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(elementData, 0, size);
+        modCount++;
+    }
+
+    /**
+     * Searches the sorted list for the specified value using the binary search algorithm.
+     * The result is undefined if the list is not sorted.
+     *
+     * @param value the value to be searched for
+     * @return index of the value, if it is contained in the list; otherwise {@code (-(insertion point) - 1)}
+     */
+    public int binarySearch(double value) {
+        return Arrays.binarySearch(elementData, 0, size, value);
+    }
+
+    /**
+     * Checks if the internal array indexes are valid
+     *
+     * @throws IndexOutOfBoundsException if the indexes are outside the bounds of the internal array
+     *                                   or {@code from} < {@code to}
+     */
+    private void checkRange(int from, int to) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to);
+        } else if (from < 0) {
+            throw new IndexOutOfBoundsException("from=" + from);
+        } else if (to > size) {
+            throw new IndexOutOfBoundsException("to=" + to);
+        }
+    }
+
+    /**
+     * Returns hash code for the list based on values of this list.
+     * The result is the same as for a {@code java.util.List} of the boxed values.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(elementData[i]);
+        }
+        equalsModCount(expectedModCount);
+        return hash;
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also a {@code DoubleArrayList},
+     * both lists have the same size, and all corresponding pairs of values in the two lists are equal.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same values in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        int expectedModCount = modCount;
+        if (this == o) return true;
+        if (!(o instanceof DoubleArrayList that)) return false;
+        boolean result = size == that.size && Arrays.equals(elementData, 0, size, that.elementData, 0, that.size);
+        equalsModCount(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Checks if structural changes modified have been made.
+     *
+     * @param modCount The number of times this list has been structurally modified.
+     * @throws ConcurrentModificationException - if the list was modified during the execution of the method
+     */
+    private void equalsModCount(int modCount) {
+        if (this.modCount != modCount) throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "[]";
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(elementData[i]).append(',').append(' ');
+        }
+        sb.delete(sb.length() - 2, sb.length());
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns amount of values in the list.
+     *
+     * @return amount of values in the list
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,98 @@
+package ru.yazgevich.collection;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Describes how elements of a fixed width are stored in a {@link ByteBuffer}.
+ * Every element takes exactly {@link #byteSize()} bytes, so the element with index {@code i}
+ * starts at the offset {@code i * byteSize()}.
+ *
+ * @param <E> - the type of encoded elements
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Codec for {@link Integer} values, four bytes per element.
+     */
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Codec for {@link Long} values, eight bytes per element.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codec for {@link Double} values, eight bytes per element.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Returns the number of bytes taken by one element.
+     *
+     * @return size of one element in bytes
+     */
+    int byteSize();
+
+    /**
+     * Writes the specified element to the buffer at the specified absolute offset.
+     *
+     * @param buffer  buffer to write to
+     * @param offset  offset in bytes of the first byte of the element
+     * @param element element to be written, never {@code null}
+     */
+    void write(ByteBuffer buffer, int offset, E element);
+
+    /**
+     * Reads an element from the buffer at the specified absolute offset.
+     *
+     * @param buffer buffer to read from
+     * @param offset offset in bytes of the first byte of the element
+     * @return the element read
+     */
+    E read(ByteBuffer buffer, int offset);
+}
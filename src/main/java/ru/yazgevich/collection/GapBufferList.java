@@ -0,0 +1,340 @@
+package ru.yazgevich.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * This class is a version of {@link MyArrayList} for edits clustered around a moving position, as in a text editor.
+ * The internal array keeps a gap of free slots at the position of the last edit. Inserting or removing next to
+ * the gap costs constant time; only when an edit happens elsewhere are the elements between the old and the new
+ * position moved across the gap.
+ * It implements only CRUD operations, {@code subList}, {@code hashCode}, {@code toString} and {@code equals}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class GapBufferList<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The maximum length of the internal array. Some VMs reserve header words in an array.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    /**
+     * The internal array. Elements are stored in {@code [0, gapStart)} and {@code [gapEnd, buffer.length)}.
+     */
+    private Object[] buffer;
+    /**
+     * The first free slot of the gap, which is also the list index of the first element after the gap.
+     */
+    private int gapStart;
+    /**
+     * The first slot after the gap.
+     */
+    private int gapEnd;
+    /**
+     * The number of times this list has been structurally modified.
+     * Structural modifications are those that change the size of the list,
+     * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
+     */
+    private int modCount = 0;
+
+    /**
+     * constructs a list with a default capacity of ten.
+     */
+    public GapBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructs a list with specified capacity.
+     *
+     * @param capacity - an initial capacity of the list
+     */
+    public GapBufferList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be < 0 : " + capacity);
+        }
+        buffer = new Object[capacity];
+        gapEnd = capacity;
+    }
+
+    /**
+     * Constructs a new list and appends all elements from the specified collection.
+     * If the specified collection == {@code null}, then construct an empty list with an initial capacity of ten.
+     *
+     * @param c the collection of elements which will be added to the new list
+     */
+    public GapBufferList(Collection<? extends E> c) {
+        this();
+        if (c != null && !c.isEmpty()) {
+            addAll(c);
+        }
+    }
+
+    /**
+     * Appends all elements from the specified collection to the end of this list.
+     *
+     * @param c the collection of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        if (a.length == 0) return false;
+        moveGap(size());
+        if (gapEnd - gapStart < a.length) grow(size() + a.length);
+        System.arraycopy(a, 0, buffer, gapStart, a.length);
+        gapStart += a.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns the element from the list at the specified index.
+     *
+     * @param index index of the element to return
+     * @return element at the specified position
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return (E) buffer[physical(index)];
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended to this list
+     * @return {@code true} if the specified element was added
+     */
+    public boolean add(E e) {
+        add(size(), e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * The gap is moved to the index first, so repeated insertions at the same place do not shift any elements.
+     * If the index equals the size of the list, the element is appended to the end of the list.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        if (gapStart == gapEnd) grow(size() + 1);
+        moveGap(index);
+        buffer[gapStart++] = element;
+        modCount++;
+    }
+
+    /**
+     * Replace the values in the list at the specified index with the specified value.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size());
+        int i = physical(index);
+        E old = (E) buffer[i];
+        buffer[i] = element;
+        return old;
+    }
+
+    /**
+     * Removes an element from the list at the specified index.
+     * The elements right before and right after the gap are removed without moving anything.
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Objects.checkIndex(index, size());
+        E old;
+        if (index == gapStart - 1) {
+            old = (E) buffer[--gapStart];
+            buffer[gapStart] = null;
+        } else {
+            moveGap(index);
+            old = (E) buffer[gapEnd];
+            buffer[gapEnd++] = null;
+        }
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Moves the gap so that it starts at the specified list index, moving the elements in between across the gap.
+     * The slots left behind are cleared to let the garbage collector do its work.
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            int newGapEnd = gapEnd - count;
+            System.arraycopy(buffer, index, buffer, newGapEnd, count);
+            Arrays.fill(buffer, index, Math.min(gapStart, newGapEnd), null);
+            gapStart = index;
+            gapEnd = newGapEnd;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            int newGapEnd = gapEnd + count;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            Arrays.fill(buffer, Math.max(gapEnd, index), newGapEnd, null);
+            gapStart = index;
+            gapEnd = newGapEnd;
+        }
+    }
+
+    /**
+     * Replaces the internal array by a bigger one with the gap at the same list index.
+     * The length is doubled, but it is never less than ten or {@code minCapacity}
+     * and never more than {@code MAX_ARRAY_SIZE}.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("required capacity " + Integer.toUnsignedString(minCapacity));
+        }
+        long doubled = Math.max(2L * buffer.length, DEFAULT_CAPACITY);
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), MAX_ARRAY_SIZE);
+        Object[] newBuffer = new Object[newCapacity];
+        int tail = buffer.length - gapEnd;
+        System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, newBuffer, newCapacity - tail, tail);
+        buffer = newBuffer;
+        gapEnd = newCapacity - tail;
+    }
+
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * (If fromIndex and toIndex are equal, the returned list is empty.)
+     *
+     * @param fromIndex initial index (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    public GapBufferList<E> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        GapBufferList<E> list = new GapBufferList<>(toIndex - fromIndex);
+        list.gapStart = copyRange(fromIndex, toIndex, list.buffer);
+        return list;
+    }
+
+    /**
+     * Copies the elements between the list indexes into the destination array starting from its first slot.
+     *
+     * @return the number of elements copied
+     */
+    private int copyRange(int from, int to, Object[] dest) {
+        int beforeGap = Math.max(0, Math.min(to, gapStart) - from);
+        System.arraycopy(buffer, from, dest, 0, beforeGap);
+        int afterFrom = Math.max(from, gapStart);
+        System.arraycopy(buffer, physical(afterFrom), dest, beforeGap, to - afterFrom > 0 ? to - afterFrom : 0);
+        return to - from;
+    }
+
+    /**
+     * Returns an array containing all elements of this list in proper sequence.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        Object[] a = new Object[size()];
+        copyRange(0, a.length, a);
+        return a;
+    }
+
+    /**
+     * Checks if the indexes are valid
+     *
+     * @throws IndexOutOfBoundsException if the indexes are outside the bounds of the list
+     *                                   or {@code from} < {@code to}
+     */
+    private void checkRange(int from, int to) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to);
+        } else if (from < 0) {
+            throw new IndexOutOfBoundsException("from=" + from);
+        } else if (to > size()) {
+            throw new IndexOutOfBoundsException("to=" + to);
+        }
+    }
+
+    /**
+     * Returns hash code for the list based on elements of this list.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        int hash = hashRange(1, 0, gapStart);
+        hash = hashRange(hash, gapEnd, buffer.length);
+        equalsModCount(expectedModCount);
+        return hash;
+    }
+
+    private int hashRange(int hash, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Object e = buffer[i];
+            hash = 31 * hash + (e == null ? 0 : e.hashCode());
+        }
+        return hash;
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also a {@code GapBufferList},
+     * both lists have the same size, and all corresponding pairs of elements in the two lists are equal.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        int expectedModCount = modCount;
+        if (this == o) return true;
+        if (!(o instanceof GapBufferList<?> that)) return false;
+        int size = size();
+        boolean result = size == that.size();
+        for (int i = 0; i < size && result; i++) {
+            result = Objects.equals(buffer[physical(i)], that.buffer[that.physical(i)]);
+        }
+        equalsModCount(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Checks if structural changes modified have been made.
+     *
+     * @param modCount The number of times this list has been structurally modified.
+     * @throws ConcurrentModificationException - if the list was modified during the execution of the method
+     */
+    private void equalsModCount(int modCount) {
+        if (this.modCount != modCount) throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+}
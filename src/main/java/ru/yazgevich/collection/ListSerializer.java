@@ -0,0 +1,216 @@
+package ru.yazgevich.collection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Saves {@link MyArrayList} and {@link MyLinkedList} to files in a compact binary format and loads them back.
+ * Elements are encoded by an {@link ElementCodec}, so every element takes the same number of bytes.
+ * The file is written and read through a {@link FileChannel} with a direct buffer, and a loaded
+ * {@code MyArrayList} is filled in its internal array sized from the header instead of element by element.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: the magic number, the format version,
+ * the size of an element in bytes, a reserved {@code int} and the number of elements as a {@code long}.
+ * The encoded elements follow the header. All values are little-endian.
+ * <p>
+ * {@code null} elements are not permitted.
+ *
+ * @param <E> - the type of elements in the lists
+ */
+public class ListSerializer<E> {
+
+    /**
+     * The first four bytes of every file, {@code "MYLS"} in ASCII.
+     */
+    private static final int MAGIC = 0x4D594C53;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    /**
+     * The size of the direct buffer through which the elements are transferred.
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private final ElementCodec<E> codec;
+    private final int elementSize;
+
+    /**
+     * constructs a serializer for lists of the elements encoded by the specified codec.
+     *
+     * @param codec - codec which encodes the elements of the lists
+     */
+    public ListSerializer(ElementCodec<E> codec) {
+        this.codec = Objects.requireNonNull(codec);
+        this.elementSize = codec.byteSize();
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("element size must be > 0 : " + elementSize);
+        }
+    }
+
+    /**
+     * Writes the specified list to the file, replacing its contents atomically: the list is written
+     * to a temporary file in the same directory, forced to the storage device and moved over the file,
+     * so a failure leaves the previous contents intact.
+     *
+     * @param list the list to be written
+     * @param file the file to write to
+     * @throws IOException                     if an I/O error occurs
+     * @throws NullPointerException            if the list contains {@code null}
+     * @throws ConcurrentModificationException if the list was modified during writing
+     */
+    public void write(MyArrayList<? extends E> list, Path file) throws IOException {
+        write(list.size(), Spliterators.iterator(list.spliterator()), file);
+    }
+
+    /**
+     * Writes the specified list to the file, replacing its contents atomically: the list is written
+     * to a temporary file in the same directory, forced to the storage device and moved over the file,
+     * so a failure leaves the previous contents intact.
+     *
+     * @param list the list to be written
+     * @param file the file to write to
+     * @throws IOException                     if an I/O error occurs
+     * @throws NullPointerException            if the list contains {@code null}
+     * @throws ConcurrentModificationException if the list was modified during writing
+     */
+    public void write(MyLinkedList<? extends E> list, Path file) throws IOException {
+        write(list.size(), list.iterator(), file);
+    }
+
+    /**
+     * Reads a list written by {@link #write} from the file. The internal array of the list is allocated
+     * once with the exact size stored in the header and the elements are decoded straight into it.
+     *
+     * @param file the file to read from
+     * @return a new list with the elements stored in the file
+     * @throws IOException if an I/O error occurs or the file is not in the expected format
+     */
+    public MyArrayList<E> readArrayList(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int size = readHeader(channel);
+            Object[] elementData = new Object[size];
+            readElements(channel, size, (e, index) -> elementData[index] = e);
+            return new MyArrayList<>(elementData, size);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #write} from the file.
+     *
+     * @param file the file to read from
+     * @return a new list with the elements stored in the file
+     * @throws IOException if an I/O error occurs or the file is not in the expected format
+     */
+    public MyLinkedList<E> readLinkedList(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int size = readHeader(channel);
+            MyLinkedList<E> list = new MyLinkedList<>();
+            readElements(channel, size, (e, index) -> list.addLast(e));
+            return list;
+        }
+    }
+
+    private void write(int size, Iterator<? extends E> elements, Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path tmp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            writeElements(size, elements, tmp);
+            Files.move(tmp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void writeElements(int size, Iterator<? extends E> elements, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(elementSize).putInt(0).putLong(size).flip();
+            writeFully(channel, header);
+            ByteBuffer buffer = allocate();
+            int perBuffer = buffer.capacity() / elementSize;
+            int written = 0;
+            while (written < size) {
+                int n = Math.min(perBuffer, size - written);
+                buffer.clear();
+                for (int i = 0; i < n; i++) {
+                    if (!elements.hasNext()) throw new ConcurrentModificationException();
+                    codec.write(buffer, i * elementSize, Objects.requireNonNull(elements.next()));
+                }
+                buffer.limit(n * elementSize);
+                writeFully(channel, buffer);
+                written += n;
+            }
+            if (elements.hasNext()) throw new ConcurrentModificationException();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads and validates the header.
+     *
+     * @return the number of elements in the file
+     * @throws IOException if the header does not match this serializer or the file length
+     */
+    private int readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        if (header.getInt(0) != MAGIC) throw new IOException("not a list file");
+        int version = header.getInt(4);
+        if (version != VERSION) throw new IOException("unsupported format version " + version);
+        int fileElementSize = header.getInt(8);
+        if (fileElementSize != elementSize) {
+            throw new IOException("element size is " + fileElementSize + ", codec expects " + elementSize);
+        }
+        long size = header.getLong(16);
+        if (size < 0 || size > MAX_ARRAY_SIZE) throw new IOException("invalid size " + size);
+        if (channel.size() != HEADER_SIZE + size * elementSize) {
+            throw new IOException("file length " + channel.size() + " does not match size " + size);
+        }
+        return (int) size;
+    }
+
+    /**
+     * Decodes {@code size} elements following the header and passes each of them with its index to the action.
+     */
+    private void readElements(FileChannel channel, int size, ObjIntConsumer<E> action) throws IOException {
+        ByteBuffer buffer = allocate();
+        int perBuffer = buffer.capacity() / elementSize;
+        int read = 0;
+        while (read < size) {
+            int n = Math.min(perBuffer, size - read);
+            buffer.clear().limit(n * elementSize);
+            readFully(channel, buffer);
+            for (int i = 0; i < n; i++) {
+                action.accept(codec.read(buffer, i * elementSize), read + i);
+            }
+            read += n;
+        }
+    }
+
+    private ByteBuffer allocate() {
+        int capacity = Math.max(BUFFER_SIZE / elementSize, 1) * elementSize;
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("unexpected end of file");
+        }
+    }
+}
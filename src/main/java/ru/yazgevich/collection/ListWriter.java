@@ -0,0 +1,88 @@
+package ru.yazgevich.collection;
+
+import java.io.IOException;
+
+/**
+ * Writes the elements of a list in the {@code [e1, e2, ...]} form to an {@link Appendable}.
+ * The text is collected in one reusable buffer which is flushed to the destination every few kilobytes,
+ * so the text of the whole list is never held in memory at once. Writing stops after {@code maxElements}
+ * elements, and the number of omitted elements is appended instead of the rest.
+ */
+final class ListWriter {
+
+    /**
+     * The number of chars collected in the buffer before it is flushed.
+     */
+    private static final int CHUNK_SIZE = 8192;
+    private final Appendable out;
+    /**
+     * The reusable buffer, or the destination itself when it is a {@link StringBuilder}.
+     */
+    private final StringBuilder buffer;
+    private final int maxElements;
+    private int written;
+
+    /**
+     * @param out         the destination of the text
+     * @param maxElements the maximum number of elements to be written
+     * @throws IllegalArgumentException if {@code maxElements} is negative
+     */
+    ListWriter(Appendable out, int maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements cannot be < 0 : " + maxElements);
+        }
+        this.out = out;
+        this.buffer = out instanceof StringBuilder sb ? sb : new StringBuilder(CHUNK_SIZE + 64);
+        this.maxElements = maxElements;
+        buffer.append('[');
+    }
+
+    /**
+     * Writes the next element of the list.
+     *
+     * @param e the element to be written
+     * @return {@code false} if the element was not written because the limit has been reached
+     * @throws IOException if the destination fails
+     */
+    boolean write(Object e) throws IOException {
+        if (written == maxElements) return false;
+        if (written++ > 0) buffer.append(',').append(' ');
+        buffer.append(e);
+        if (buffer.length() >= CHUNK_SIZE) flush();
+        return true;
+    }
+
+    /**
+     * Closes the bracket, noting the elements which were not written, and flushes the buffer.
+     *
+     * @param size the number of elements in the list
+     * @throws IOException if the destination fails
+     */
+    void finish(int size) throws IOException {
+        if (size > written) {
+            if (written > 0) buffer.append(',').append(' ');
+            buffer.append("...").append(size - written).append(" more");
+        }
+        buffer.append(']');
+        flush();
+    }
+
+    /**
+     * Writes the range {@code [from, to)} of the array as a list.
+     *
+     * @throws IOException if the destination fails
+     */
+    static void write(Appendable out, Object[] a, int from, int to, int maxElements) throws IOException {
+        ListWriter writer = new ListWriter(out, maxElements);
+        for (int i = from; i < to; i++) {
+            if (!writer.write(a[i])) break;
+        }
+        writer.finish(to - from);
+    }
+
+    private void flush() throws IOException {
+        if (buffer == out) return;
+        out.append(buffer);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,608 @@
+package ru.yazgevich.collection;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a thread-safe version of {@link MyLinkedList} used as a deque.
+ * It does not take any lock and follows the algorithm of {@link java.util.concurrent.ConcurrentLinkedDeque}:
+ * the ends are linked by CAS on the {@code prev} or {@code next} link of the first or the last node,
+ * so pushes and polls at opposite ends do not contend. {@code head} and {@code tail} are only hints
+ * from which the ends are reached in a few hops, and they are updated lazily.
+ * A node is removed logically by a CAS of its item to {@code null} and unlinked from the chain later;
+ * an unlinked node has its links pointed to itself or to a terminator, so it does not keep the live nodes reachable.
+ * It implements {@code addFirst}, {@code addLast}, {@code pollFirst}, {@code pollLast}, peeks,
+ * an estimate of the size and a weakly consistent iterator.
+ * <p>
+ * {@code null} elements are not permitted.
+ *
+ * @param <E> - the type of elements in this deque
+ */
+public class LockFreeLinkedDeque<E> implements Iterable<E> {
+
+    /**
+     * The number of removed nodes near an end which are left in the chain before they are unlinked.
+     */
+    private static final int HOPS = 2;
+    /**
+     * The {@code prev} link of a node unlinked from the start of the deque.
+     */
+    private static final Node<Object> PREV_TERMINATOR = new Node<>(null);
+    /**
+     * The {@code next} link of a node unlinked from the end of the deque.
+     */
+    private static final Node<Object> NEXT_TERMINATOR = new Node<>(null);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> PREV =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "prev");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Object> ITEM =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "item");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeLinkedDeque, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeLinkedDeque.class, Node.class, "head");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeLinkedDeque, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeLinkedDeque.class, Node.class, "tail");
+
+    static {
+        PREV_TERMINATOR.next = PREV_TERMINATOR;
+        NEXT_TERMINATOR.prev = NEXT_TERMINATOR;
+    }
+
+    /**
+     * A node from which the first node, the one without {@code prev} link, is reachable in a few hops.
+     * It is never {@code null} and may hold a removed item.
+     */
+    private volatile Node<E> head;
+    /**
+     * A node from which the last node, the one without {@code next} link, is reachable in a few hops.
+     * It is never {@code null} and may hold a removed item.
+     */
+    private volatile Node<E> tail;
+    /**
+     * The number of elements, updated after the element is linked or removed.
+     */
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Constructs an empty deque
+     */
+    public LockFreeLinkedDeque() {
+        head = tail = new Node<>(null);
+    }
+
+    /**
+     * Adds the specified element to the start of the deque
+     *
+     * @param e element to be inserted
+     * @throws NullPointerException if the specified element is {@code null}
+     * @see #addLast
+     */
+    public void addFirst(E e) {
+        Node<E> node = new Node<>(Objects.requireNonNull(e));
+        restart:
+        for (; ; ) {
+            for (Node<E> h = head, p = h, q; ; ) {
+                if ((q = p.prev) != null && (q = (p = q).prev) != null) {
+                    // check the head every other hop, follow it if p has been unlinked
+                    p = (h != (h = head)) ? h : q;
+                } else if (p.next == p) {
+                    continue restart;
+                } else {
+                    node.next = p;
+                    if (PREV.compareAndSet(p, null, node)) {
+                        if (p != h) HEAD.weakCompareAndSet(this, h, node);
+                        size.increment();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the specified element to the end of the deque
+     *
+     * @param e element to be appended
+     * @throws NullPointerException if the specified element is {@code null}
+     * @see #addFirst
+     */
+    public void addLast(E e) {
+        Node<E> node = new Node<>(Objects.requireNonNull(e));
+        restart:
+        for (; ; ) {
+            for (Node<E> t = tail, p = t, q; ; ) {
+                if ((q = p.next) != null && (q = (p = q).next) != null) {
+                    // check the tail every other hop, follow it if p has been unlinked
+                    p = (t != (t = tail)) ? t : q;
+                } else if (p.prev == p) {
+                    continue restart;
+                } else {
+                    node.prev = p;
+                    if (NEXT.compareAndSet(p, null, node)) {
+                        if (p != t) TAIL.weakCompareAndSet(this, t, node);
+                        size.increment();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the first element of the deque.
+     *
+     * @return the first element, or {@code null} if the deque is empty
+     */
+    public E pollFirst() {
+        restart:
+        for (; ; ) {
+            for (Node<E> first = first(), p = first; ; ) {
+                E item = p.item;
+                if (item != null) {
+                    // an element pushed before the first node would be the first one
+                    if (first.prev != null) continue restart;
+                    if (ITEM.compareAndSet(p, item, null)) {
+                        unlink(p);
+                        size.decrement();
+                        return item;
+                    }
+                }
+                if (p == (p = p.next)) continue restart;
+                if (p == null) {
+                    if (first.prev != null) continue restart;
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the last element of the deque.
+     *
+     * @return the last element, or {@code null} if the deque is empty
+     */
+    public E pollLast() {
+        restart:
+        for (; ; ) {
+            for (Node<E> last = last(), p = last; ; ) {
+                E item = p.item;
+                if (item != null) {
+                    // an element pushed after the last node would be the last one
+                    if (last.next != null) continue restart;
+                    if (ITEM.compareAndSet(p, item, null)) {
+                        unlink(p);
+                        size.decrement();
+                        return item;
+                    }
+                }
+                if (p == (p = p.prev)) continue restart;
+                if (p == null) {
+                    if (last.next != null) continue restart;
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the first element of the deque.
+     *
+     * @return the first element, or {@code null} if the deque is empty
+     */
+    public E peekFirst() {
+        restart:
+        for (; ; ) {
+            for (Node<E> first = first(), p = first; ; ) {
+                E item = p.item;
+                if (item != null) {
+                    if (first.prev != null) continue restart;
+                    return item;
+                }
+                if (p == (p = p.next)) continue restart;
+                if (p == null) {
+                    if (first.prev != null) continue restart;
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the last element of the deque.
+     *
+     * @return the last element, or {@code null} if the deque is empty
+     */
+    public E peekLast() {
+        restart:
+        for (; ; ) {
+            for (Node<E> last = last(), p = last; ; ) {
+                E item = p.item;
+                if (item != null) {
+                    if (last.next != null) continue restart;
+                    return item;
+                }
+                if (p == (p = p.prev)) continue restart;
+                if (p == null) {
+                    if (last.next != null) continue restart;
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the deque contains no elements at the moment of the call.
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return peekFirst() == null;
+    }
+
+    /**
+     * Returns an estimate of the number of elements in the deque.
+     * The value is exact when no other thread modifies the deque.
+     *
+     * @return an estimate of the number of elements
+     */
+    public int size() {
+        long sum = size.sum();
+        return (int) Math.max(0, Math.min(sum, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Unlinks the node whose item has been removed. Removed nodes at the ends are left in the chain
+     * until there are {@value #HOPS} of them, removed nodes between live ones are always skipped.
+     */
+    private void unlink(Node<E> x) {
+        Node<E> prev = x.prev;
+        Node<E> next = x.next;
+        if (prev == null) {
+            unlinkFirst(x, next);
+        } else if (next == null) {
+            unlinkLast(x, prev);
+        } else {
+            Node<E> activePred;
+            Node<E> activeSucc;
+            boolean isFirst;
+            boolean isLast;
+            int hops = 1;
+            for (Node<E> p = prev; ; ++hops) {
+                if (p.item != null) {
+                    activePred = p;
+                    isFirst = false;
+                    break;
+                }
+                Node<E> q = p.prev;
+                if (q == null) {
+                    if (p.next == p) return;
+                    activePred = p;
+                    isFirst = true;
+                    break;
+                } else if (p == q) {
+                    return;
+                } else {
+                    p = q;
+                }
+            }
+            for (Node<E> p = next; ; ++hops) {
+                if (p.item != null) {
+                    activeSucc = p;
+                    isLast = false;
+                    break;
+                }
+                Node<E> q = p.next;
+                if (q == null) {
+                    if (p.prev == p) return;
+                    activeSucc = p;
+                    isLast = true;
+                    break;
+                } else if (p == q) {
+                    return;
+                } else {
+                    p = q;
+                }
+            }
+            if (hops < HOPS && (isFirst | isLast)) return;
+
+            skipDeletedSuccessors(activePred);
+            skipDeletedPredecessors(activeSucc);
+
+            // x is unreachable from the live nodes, cut its links if neither neighbour has changed since
+            if ((isFirst | isLast)
+                    && activePred.next == activeSucc
+                    && activeSucc.prev == activePred
+                    && (isFirst ? activePred.prev == null : activePred.item != null)
+                    && (isLast ? activeSucc.next == null : activeSucc.item != null)) {
+                updateHead();
+                updateTail();
+                x.prev = isFirst ? prevTerminator() : x;
+                x.next = isLast ? nextTerminator() : x;
+            }
+        }
+    }
+
+    /**
+     * Unlinks the removed nodes which follow the removed first node.
+     */
+    private void unlinkFirst(Node<E> first, Node<E> next) {
+        for (Node<E> o = null, p = next, q; ; ) {
+            if (p.item != null || (q = p.next) == null) {
+                if (o != null && p.prev != p && NEXT.compareAndSet(first, next, p)) {
+                    skipDeletedPredecessors(p);
+                    if (first.prev == null && (p.next == null || p.item != null) && p.prev == first) {
+                        updateHead();
+                        updateTail();
+                        o.next = o;
+                        o.prev = prevTerminator();
+                    }
+                }
+                return;
+            } else if (p == q) {
+                return;
+            } else {
+                o = p;
+                p = q;
+            }
+        }
+    }
+
+    /**
+     * Unlinks the removed nodes which precede the removed last node.
+     */
+    private void unlinkLast(Node<E> last, Node<E> prev) {
+        for (Node<E> o = null, p = prev, q; ; ) {
+            if (p.item != null || (q = p.prev) == null) {
+                if (o != null && p.next != p && PREV.compareAndSet(last, prev, p)) {
+                    skipDeletedSuccessors(p);
+                    if (last.next == null && (p.prev == null || p.item != null) && p.next == last) {
+                        updateHead();
+                        updateTail();
+                        o.prev = o;
+                        o.next = nextTerminator();
+                    }
+                }
+                return;
+            } else if (p == q) {
+                return;
+            } else {
+                o = p;
+                p = q;
+            }
+        }
+    }
+
+    /**
+     * Moves the head so that no node unlinked before the call is reachable from it.
+     */
+    private void updateHead() {
+        Node<E> h;
+        Node<E> p;
+        Node<E> q;
+        restart:
+        while ((h = head).item == null && (p = h.prev) != null) {
+            for (; ; ) {
+                if ((q = p.prev) == null || (q = (p = q).prev) == null) {
+                    // p may be the terminator, then the CAS fails
+                    if (HEAD.compareAndSet(this, h, p)) return;
+                    continue restart;
+                } else if (h != head) {
+                    continue restart;
+                } else {
+                    p = q;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the tail so that no node unlinked before the call is reachable from it.
+     */
+    private void updateTail() {
+        Node<E> t;
+        Node<E> p;
+        Node<E> q;
+        restart:
+        while ((t = tail).item == null && (p = t.next) != null) {
+            for (; ; ) {
+                if ((q = p.next) == null || (q = (p = q).next) == null) {
+                    // p may be the terminator, then the CAS fails
+                    if (TAIL.compareAndSet(this, t, p)) return;
+                    continue restart;
+                } else if (t != tail) {
+                    continue restart;
+                } else {
+                    p = q;
+                }
+            }
+        }
+    }
+
+    /**
+     * Points the {@code prev} link of the node to its nearest live predecessor.
+     */
+    private void skipDeletedPredecessors(Node<E> x) {
+        active:
+        do {
+            Node<E> prev = x.prev;
+            Node<E> p = prev;
+            for (; ; ) {
+                if (p.item != null) break;
+                Node<E> q = p.prev;
+                if (q == null) {
+                    if (p.next == p) continue active;
+                    break;
+                } else if (p == q) {
+                    continue active;
+                } else {
+                    p = q;
+                }
+            }
+            if (prev == p || PREV.compareAndSet(x, prev, p)) return;
+        } while (x.item != null || x.next == null);
+    }
+
+    /**
+     * Points the {@code next} link of the node to its nearest live successor.
+     */
+    private void skipDeletedSuccessors(Node<E> x) {
+        active:
+        do {
+            Node<E> next = x.next;
+            Node<E> p = next;
+            for (; ; ) {
+                if (p.item != null) break;
+                Node<E> q = p.next;
+                if (q == null) {
+                    if (p.prev == p) continue active;
+                    break;
+                } else if (p == q) {
+                    continue active;
+                } else {
+                    p = q;
+                }
+            }
+            if (next == p || NEXT.compareAndSet(x, next, p)) return;
+        } while (x.item != null || x.prev == null);
+    }
+
+    /**
+     * Returns the successor of the node, or the first node if the node has been unlinked.
+     */
+    private Node<E> succ(Node<E> p) {
+        Node<E> next = p.next;
+        return p == next ? first() : next;
+    }
+
+    /**
+     * Returns the first node, the one without {@code prev} link, and moves the head to it.
+     * The item of the node may be removed.
+     */
+    private Node<E> first() {
+        restart:
+        for (; ; ) {
+            for (Node<E> h = head, p = h, q; ; ) {
+                if ((q = p.prev) != null && (q = (p = q).prev) != null) {
+                    p = (h != (h = head)) ? h : q;
+                } else if (p == h || HEAD.compareAndSet(this, h, p)) {
+                    return p;
+                } else {
+                    continue restart;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the last node, the one without {@code next} link, and moves the tail to it.
+     * The item of the node may be removed.
+     */
+    private Node<E> last() {
+        restart:
+        for (; ; ) {
+            for (Node<E> t = tail, p = t, q; ; ) {
+                if ((q = p.next) != null && (q = (p = q).next) != null) {
+                    p = (t != (t = tail)) ? t : q;
+                } else if (p == t || TAIL.compareAndSet(this, t, p)) {
+                    return p;
+                } else {
+                    continue restart;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<E> prevTerminator() {
+        return (Node<E>) PREV_TERMINATOR;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<E> nextTerminator() {
+        return (Node<E>) NEXT_TERMINATOR;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements from first to last.
+     * It never throws {@link java.util.ConcurrentModificationException} and returns every element
+     * present at its creation which is not removed before the iterator reaches it.
+     * It may or may not return elements added after its creation, and as the next element is read ahead,
+     * {@code next()} may return an element which has been removed after {@code hasNext()} was called.
+     * An iterator holding a node which has since been unlinked restarts from the first node,
+     * so it may also return an element again if elements were added to the start in the meantime.
+     *
+     * @return an iterator over the elements of the deque
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Node<E> nextNode;
+            private E nextItem;
+
+            {
+                advance(first());
+            }
+
+            /**
+             * Moves to the first live node starting from the specified one.
+             */
+            private void advance(Node<E> p) {
+                for (; p != null; p = succ(p)) {
+                    E item = p.item;
+                    if (item != null) {
+                        nextNode = p;
+                        nextItem = item;
+                        return;
+                    }
+                }
+                // the end of the deque or a terminator
+                nextNode = null;
+                nextItem = null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextItem != null;
+            }
+
+            @Override
+            public E next() {
+                E item = nextItem;
+                if (item == null) throw new NoSuchElementException();
+                advance(succ(nextNode));
+                return item;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (E e : this) {
+            sb.append(e).append(',').append(' ');
+        }
+        if (sb.length() > 1) sb.delete(sb.length() - 2, sb.length());
+        return sb.append(']').toString();
+    }
+
+    private static final class Node<E> {
+
+        private volatile E item;
+        private volatile Node<E> next;
+        private volatile Node<E> prev;
+
+        private Node(E item) {
+            this.item = item;
+        }
+    }
+}
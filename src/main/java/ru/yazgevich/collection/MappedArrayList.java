@@ -0,0 +1,304 @@
+package ru.yazgevich.collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class is a version of {@link MyArrayList} whose elements live in a memory-mapped file.
+ * Opening an existing file maps it instead of reading it, so the list is available at once
+ * and its pages are loaded by the operating system on first access and kept in the page cache.
+ * Elements are encoded by an {@link ElementCodec}. It implements {@code get}, {@code set}, {@code add},
+ * {@code size} and {@code toString}, and {@link #force()} to write the changes to the storage device.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: the magic number, the format version,
+ * the size of an element in bytes, a reserved {@code int}, the number of elements and the capacity as
+ * {@code long} values. The elements follow the header. All values are little-endian.
+ * A mapped buffer cannot exceed 2 GB, so the elements are mapped in chunks of a power-of-two number
+ * of elements, and growing the list maps only the chunks that have changed.
+ * <p>
+ * {@code null} elements are not permitted. The list must be closed when it is no longer needed;
+ * any operation on a closed list throws {@link IllegalStateException}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class MappedArrayList<E> implements AutoCloseable {
+
+    /**
+     * The first four bytes of every file, {@code "MYLM"} in ASCII.
+     */
+    private static final int MAGIC = 0x4D594C4D;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int SIZE_OFFSET = 16;
+    private static final int CAPACITY_OFFSET = 24;
+    private static final int DEFAULT_CAPACITY = 1024;
+    /**
+     * The upper bound of the length of one mapped chunk in bytes.
+     */
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private final ElementCodec<E> codec;
+    private final int elementSize;
+    private final int chunkShift;
+    private final int chunkMask;
+    /**
+     * The channel of the file, {@code null} when the list is closed.
+     */
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    /**
+     * The mapped chunks. Every chunk but the last one holds exactly {@code 1 << chunkShift} elements.
+     */
+    private MappedByteBuffer[] chunks;
+    private int capacity;
+    private int size;
+
+    /**
+     * Opens the list stored in the specified file, or creates a new empty list with a capacity of 1024
+     * if the file does not exist.
+     *
+     * @param file  - the file with the elements of the list
+     * @param codec - codec which encodes the elements of the list
+     * @throws IOException if an I/O error occurs or the file is not in the expected format
+     */
+    public MappedArrayList(Path file, ElementCodec<E> codec) throws IOException {
+        this(file, codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the list stored in the specified file, or creates a new empty list with specified capacity
+     * if the file does not exist.
+     *
+     * @param file     - the file with the elements of the list
+     * @param codec    - codec which encodes the elements of the list
+     * @param capacity - an initial capacity of a new list
+     * @throws IOException if an I/O error occurs or the file is not in the expected format
+     */
+    public MappedArrayList(Path file, ElementCodec<E> codec, int capacity) throws IOException {
+        this.codec = Objects.requireNonNull(codec);
+        this.elementSize = codec.byteSize();
+        if (elementSize <= 0 || elementSize > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("invalid element size : " + elementSize);
+        }
+        if (capacity < 0 || capacity > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("invalid capacity : " + capacity);
+        }
+        this.chunkShift = 31 - Integer.numberOfLeadingZeros(MAX_CHUNK_BYTES / elementSize);
+        this.chunkMask = (1 << chunkShift) - 1;
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            long fileSize = channel.size();
+            boolean created = fileSize == 0;
+            // mapping the header of a shorter file would extend it before it is validated
+            if (!created && fileSize < HEADER_SIZE) {
+                throw new IOException("not a mapped list file: length " + fileSize + " is less than the header");
+            }
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (created) {
+                header.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, elementSize).putInt(12, 0)
+                        .putLong(SIZE_OFFSET, 0).putLong(CAPACITY_OFFSET, 0);
+            } else {
+                readHeader();
+            }
+            chunks = new MappedByteBuffer[0];
+            map(Math.max(this.capacity, capacity));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Validates the header of an existing file and reads the size and the capacity from it.
+     */
+    private void readHeader() throws IOException {
+        if (header.getInt(0) != MAGIC) throw new IOException("not a mapped list file");
+        int version = header.getInt(4);
+        if (version != VERSION) throw new IOException("unsupported format version " + version);
+        int fileElementSize = header.getInt(8);
+        if (fileElementSize != elementSize) {
+            throw new IOException("element size is " + fileElementSize + ", codec expects " + elementSize);
+        }
+        long size = header.getLong(SIZE_OFFSET);
+        long capacity = header.getLong(CAPACITY_OFFSET);
+        if (capacity < 0 || capacity > MAX_ARRAY_SIZE || size < 0 || size > capacity) {
+            throw new IOException("invalid size " + size + " or capacity " + capacity);
+        }
+        if (channel.size() < HEADER_SIZE + capacity * elementSize) {
+            throw new IOException("file length " + channel.size() + " is less than capacity " + capacity);
+        }
+        this.size = (int) size;
+        this.capacity = (int) capacity;
+    }
+
+    /**
+     * Returns the element from the list at the specified index.
+     *
+     * @param index index of the element to return
+     * @return element at the specified position
+     */
+    public E get(int index) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+        return codec.read(chunks[index >>> chunkShift], (index & chunkMask) * elementSize);
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     * The element is written before the size in the header is increased.
+     *
+     * @param e element to be appended to this list
+     * @return {@code true} if the specified element was added
+     */
+    public boolean add(E e) {
+        Objects.requireNonNull(e);
+        checkOpen();
+        if (capacity <= size) grow(size + 1);
+        codec.write(chunks[size >>> chunkShift], (size & chunkMask) * elementSize, e);
+        size++;
+        header.putLong(SIZE_OFFSET, size);
+        return true;
+    }
+
+    /**
+     * Replace the values in the list at the specified index with the specified value.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    public E set(int index, E element) {
+        Objects.requireNonNull(element);
+        checkOpen();
+        Objects.checkIndex(index, size);
+        MappedByteBuffer chunk = chunks[index >>> chunkShift];
+        int offset = (index & chunkMask) * elementSize;
+        E old = codec.read(chunk, offset);
+        codec.write(chunk, offset, element);
+        return old;
+    }
+
+    /**
+     * Doubles the capacity of the list, but makes it no less than {@code minCapacity}, and remaps the file.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("required capacity " + Integer.toUnsignedString(minCapacity));
+        }
+        long doubled = Math.max(2L * capacity, DEFAULT_CAPACITY);
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), MAX_ARRAY_SIZE);
+        try {
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the elements up to the specified capacity, extending the file if needed, and stores the capacity
+     * in the header. Chunks which are already mapped in full are kept, the last partial chunk is mapped again.
+     */
+    private void map(int newCapacity) throws IOException {
+        int chunkCount = newCapacity == 0 ? 0 : ((newCapacity - 1) >>> chunkShift) + 1;
+        MappedByteBuffer[] newChunks = Arrays.copyOf(chunks, chunkCount);
+        int from = chunks.length > 0 && chunkLength(chunks.length - 1, capacity) < (1 << chunkShift)
+                ? chunks.length - 1 : chunks.length;
+        for (int k = from; k < chunkCount; k++) {
+            long position = HEADER_SIZE + ((long) k << chunkShift) * elementSize;
+            newChunks[k] = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                    (long) chunkLength(k, newCapacity) * elementSize);
+            newChunks[k].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        chunks = newChunks;
+        capacity = newCapacity;
+        header.putLong(CAPACITY_OFFSET, capacity);
+    }
+
+    /**
+     * Returns the number of elements in the chunk with the specified number for the specified capacity.
+     */
+    private int chunkLength(int chunk, int capacity) {
+        return Math.min(1 << chunkShift, capacity - (chunk << chunkShift));
+    }
+
+    /**
+     * Writes all changes of the elements and the header to the storage device.
+     */
+    public void force() {
+        checkOpen();
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Closes the file. Closing an already closed list has no effect.
+     * The changes which were not forced are written by the operating system later,
+     * the mappings are released once the buffers become unreachable.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        FileChannel channel = this.channel;
+        if (channel == null) return;
+        this.channel = null;
+        header = null;
+        chunks = null;
+        capacity = 0;
+        size = 0;
+        channel.close();
+    }
+
+    /**
+     * @throws IllegalStateException if the list is closed
+     */
+    private void checkOpen() {
+        if (channel == null) throw new IllegalStateException("list is closed");
+    }
+
+    @Override
+    public String toString() {
+        checkOpen();
+        StringBuilder sb = new StringBuilder();
+        try {
+            ListWriter writer = new ListWriter(sb, Integer.MAX_VALUE);
+            for (int i = 0; i < size; i++) {
+                writer.write(get(i));
+            }
+            writer.finish(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the capacity of the list, which is the number of elements the file has room for.
+     *
+     * @return capacity of the list
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
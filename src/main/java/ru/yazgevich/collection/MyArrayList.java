@@ -1,9 +1,20 @@
 package ru.yazgevich.collection;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * * This class is my ArrayList version. It implements only CRUD operations,{@code subList},
@@ -15,6 +26,19 @@ import java.util.Objects;
 public class MyArrayList<E> {
 
     private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Shared empty array for lists created with zero capacity, such as sublist views.
+     */
+    private static final Object[] EMPTY_ELEMENT_DATA = {};
+    /**
+     * The maximum length of the internal array. Some VMs reserve header words in an array.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    /**
+     * Collections bigger than this, which are not sets, are copied into a {@link HashSet} by
+     * {@link #removeAll} and {@link #retainAll}, so that each lookup does not scan the whole collection.
+     */
+    private static final int HASH_LOOKUP_THRESHOLD = 16;
     /**
      * The internal array of the list that stores all the elements.
      */
@@ -26,6 +50,17 @@ public class MyArrayList<E> {
      * * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
      */
     private int modCount = 0;
+    /**
+     * Whether {@link #hashCode()} keeps its result, see {@link #setHashCodeCaching(boolean)}.
+     */
+    private boolean hashCaching;
+    /**
+     * Whether {@code cachedHash} holds the hash code of the list. It is valid only while {@code modCount}
+     * equals {@code hashModCount}, because any structural modification may change the elements.
+     */
+    private boolean hashValid;
+    private int cachedHash;
+    private int hashModCount;
 
     /**
      * constructs a list with a default capacity of ten.
@@ -43,37 +78,173 @@ public class MyArrayList<E> {
         if (capacity < 0) {
             throw new IllegalArgumentException("capacity cannot be < 0 : " + capacity);
         } else {
-            elementData = (E[]) new Object[capacity];
+            elementData = (E[]) (capacity == 0 ? EMPTY_ELEMENT_DATA : new Object[capacity]);
         }
     }
 
     /**
-     * Constructs a new list and appends all elements from the specified list.
-     * If the specified list == {@code null}, then construct an empty list with an initial capacity of ten.
+     * Constructs a list that takes ownership of the specified array: the first {@code size} slots
+     * become the elements of the list and the array is used as the internal array without copying.
+     *
+     * @param elementData array which becomes the internal array of the list
+     * @param size        the number of elements in the array
+     */
+    MyArrayList(Object[] elementData, int size) {
+        Objects.checkFromIndexSize(0, size, elementData.length);
+        this.elementData = (E[]) elementData;
+        this.size = size;
+    }
+
+    /**
+     * Constructs a new list and appends all elements from the specified collection.
+     * The internal array is sized exactly to the array returned by {@code c.toArray()}.
+     * If the specified collection == {@code null}, then construct an empty list with an initial capacity of ten.
      *
-     * @param list the list of elements which will be added to the new list
+     * @param c the collection of elements which will be added to the new list
      */
-    public MyArrayList(List<? extends E> list) {
+    public MyArrayList(Collection<? extends E> c) {
         this();
-        if (list != null && !list.isEmpty()) {
-            elementData = (E[]) new Object[list.size()];
-            addAll(list);
+        if (c != null && !c.isEmpty()) {
+            // the array is taken once, its length may differ from c.size() for a concurrent collection
+            Object[] a = c.toArray();
+            if (a.length > 0) {
+                elementData = (E[]) Arrays.copyOf(a, a.length, Object[].class);
+                size = a.length;
+            }
+        }
+    }
+
+    /**
+     * Appends all elements from the specified collection to the end of this list.
+     * The capacity is reserved once and the elements are copied in bulk.
+     *
+     * @param c the collection of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Inserts all elements from the specified collection into this list at the specified index.
+     * The elements at and after the index are shifted to the right once, by the number of inserted elements.
+     *
+     * @param index index at which the first element is to be inserted
+     * @param c     the collection of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Objects.checkIndex(index, size + 1);
+        Object[] a = c.toArray();
+        return insert(index, a, 0, a.length);
+    }
+
+    /**
+     * Appends all elements from the specified list to the end of this list.
+     * The elements are copied directly from the internal array of the specified list.
+     *
+     * @param list the list of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(MyArrayList<? extends E> list) {
+        return addAll(size, list);
+    }
+
+    /**
+     * Inserts all elements from the specified list into this list at the specified index.
+     * The elements at and after the index are shifted to the right once, by the number of inserted elements.
+     *
+     * @param index index at which the first element is to be inserted
+     * @param list  the list of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(int index, MyArrayList<? extends E> list) {
+        Objects.checkIndex(index, size + 1);
+        if (list instanceof SubList<? extends E> sub) {
+            sub.checkForComodification();
+            if (sub.root != this) return insert(index, sub.root.elementData, sub.offset, sub.size);
+        } else if (list != this) {
+            return insert(index, list.elementData, 0, list.size);
         }
+        Object[] a = list.toArray();
+        return insert(index, a, 0, a.length);
     }
 
     /**
-     * Adds all elements from the specified list to this list.
+     * Appends all elements from the specified array to the end of this list.
      *
-     * @param list the list of elements which will be added to the new list
+     * @param a the array of elements which will be added to this list
      * @return {@code true} if the list has been modified
      */
-    public boolean addAll(List<? extends E> list) {
-        boolean modified = false;
-        for (E e : list) {
-            add(e);
-            modified = true;
+    public boolean addAll(E[] a) {
+        return addAll(size, a);
+    }
+
+    /**
+     * Inserts all elements from the specified array into this list at the specified index.
+     * The elements at and after the index are shifted to the right once, by the number of inserted elements.
+     *
+     * @param index index at which the first element is to be inserted
+     * @param a     the array of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(int index, E[] a) {
+        Objects.checkIndex(index, size + 1);
+        return insert(index, a, 0, a.length);
+    }
+
+    /**
+     * Copies {@code length} elements of the source array starting from {@code from} into this list at the index,
+     * reserving the capacity and shifting the tail only once. Counts as one structural modification.
+     */
+    private boolean insert(int index, Object[] a, int from, int length) {
+        if (length == 0) return false;
+        if (elementData.length - size < length) grow(size + length);
+        System.arraycopy(elementData, index, elementData, index + length, size - index);
+        System.arraycopy(a, from, elementData, index, length);
+        size += length;
+        modCount++;
+        if (hashValid && index == size - length) appendToHash(index);
+        return true;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, so that it can hold at least
+     * the specified number of elements without reallocating the internal array.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length) grow(minCapacity);
+    }
+
+    /**
+     * Trims the capacity of this list to its current size, releasing the unused part of the internal array.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = (E[]) (size == 0 ? EMPTY_ELEMENT_DATA : Arrays.copyOf(elementData, size, Object[].class));
         }
-        return modified;
+    }
+
+    /**
+     * Returns an array containing all elements of this list in proper sequence.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(elementData, size, Object[].class);
+    }
+
+    /**
+     * Returns the internal array after trimming it to the size of the list. The array is not copied
+     * when the list is already full, so the caller shares it with this list.
+     *
+     * @return the internal array, whose length equals the size of the list
+     */
+    Object[] trimmedArray() {
+        trimToSize();
+        return elementData;
     }
 
     /**
@@ -94,22 +265,24 @@ public class MyArrayList<E> {
      * @return {@code true} if the specified element was added
      */
     public boolean add(E e) {
-        if (elementData.length <= size) grow();
+        if (elementData.length <= size) grow(size + 1);
         elementData[size++] = e;
         modCount++;
+        if (hashValid) appendToHash(size - 1);
         return true;
     }
 
     /**
      * Inserts the specified element to the list at the specified index.
      * Shifts the element at the specified position and all subsequent elements to the right.
+     * If the index equals the size of the list, the element is appended to the end of the list.
      *
      * @param index   index at which the specified element is to be inserted
      * @param element element to be inserted
      */
     public void add(int index, E element) {
-        Objects.checkIndex(index, size());
-        if (elementData.length >= size) grow();
+        Objects.checkIndex(index, size + 1);
+        if (elementData.length <= size) grow(size + 1);
         System.arraycopy(elementData, index, elementData, index + 1, size - index);
         elementData[index] = element;
         modCount++;
@@ -118,14 +291,18 @@ public class MyArrayList<E> {
 
 
     /**
-     * Doubles the length of the internal array. If the length of the internal array is less than 10
-     * then value for length is set to 10.
+     * Doubles the length of the internal array, but makes it no less than {@code minCapacity}.
+     * If the length of the internal array is less than 10 then value for length is set to at least 10.
+     *
+     * @param minCapacity the desired minimum capacity
      */
-    private void grow() {
-        int newCapacity = elementData.length < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : elementData.length * 2;
-        E[] newElementData = (E[]) new Object[newCapacity];
-        System.arraycopy(elementData, 0, newElementData, 0, elementData.length);
-        elementData = newElementData;
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("required capacity " + Integer.toUnsignedString(minCapacity));
+        }
+        long doubled = Math.max(2L * elementData.length, DEFAULT_CAPACITY);
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), MAX_ARRAY_SIZE);
+        elementData = Arrays.copyOf(elementData, newCapacity);
     }
 
     /**
@@ -139,6 +316,7 @@ public class MyArrayList<E> {
         Objects.checkIndex(index, size());
         E old = elementData[index];
         elementData[index] = element;
+        hashValid = false;
         return old;
     }
 
@@ -157,9 +335,149 @@ public class MyArrayList<E> {
         return old;
     }
 
+    /**
+     * Removes all elements of this list that satisfy the specified predicate.
+     * The remaining elements are compacted in a single pass, which counts as one structural modification.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeIf(filter, 0, size) > 0;
+    }
+
+    /**
+     * Removes all elements of this list that are contained in the specified collection.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return {@code true} if any elements were removed
+     */
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(lookup(c)::contains);
+    }
+
+    /**
+     * Retains only the elements of this list that are contained in the specified collection.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return {@code true} if any elements were removed
+     */
+    public boolean retainAll(Collection<?> c) {
+        Collection<?> lookup = lookup(c);
+        return removeIf(e -> !lookup.contains(e));
+    }
+
+    /**
+     * Removes the elements whose index is between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * Shifts all subsequent elements to the left at once.
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) return;
+        System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elementData, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes the elements in the range {@code [from, to)} that satisfy the predicate. The kept elements are moved
+     * to the left in one pass and the vacated tail is cleared. If the predicate throws, the elements not tested yet
+     * are kept, so the list stays consistent.
+     *
+     * @return the number of removed elements
+     */
+    private int removeIf(Predicate<? super E> filter, int from, int to) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        int r = from;
+        while (r < to && !filter.test(elementData[r])) r++;
+        if (r == to) {
+            equalsModCount(expectedModCount);
+            return 0;
+        }
+        int w = r++;
+        try {
+            for (; r < to; r++) {
+                E e = elementData[r];
+                if (!filter.test(e)) elementData[w++] = e;
+            }
+            equalsModCount(expectedModCount);
+        } finally {
+            System.arraycopy(elementData, r, elementData, w, size - r);
+            int newSize = size - (r - w);
+            Arrays.fill(elementData, newSize, size, null);
+            size = newSize;
+            modCount++;
+        }
+        return r - w;
+    }
+
+    /**
+     * Returns a collection with fast {@code contains} holding the same elements as the specified one.
+     */
+    private static Collection<?> lookup(Collection<?> c) {
+        return c instanceof Set<?> || c.size() <= HASH_LOOKUP_THRESHOLD ? c : new HashSet<>(c);
+    }
+
+    /**
+     * Sorts this list in place according to the order induced by the specified comparator.
+     * The internal array is sorted directly, without copying the elements out.
+     * If the comparator is {@code null}, the elements must be {@link Comparable} and are sorted
+     * in their natural order, which skips the comparator indirection.
+     *
+     * @param c the comparator to determine the order of the list, or {@code null} for natural ordering
+     */
+    public void sort(Comparator<? super E> c) {
+        sort(c, 0, size, false);
+    }
+
+    /**
+     * Sorts this list in place like {@link #sort}, but splits the internal array between the threads of the
+     * common fork-join pool. Small lists are sorted sequentially.
+     *
+     * @param c the comparator to determine the order of the list, or {@code null} for natural ordering
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        sort(c, 0, size, true);
+    }
+
+    /**
+     * Searches the list, sorted according to the specified comparator, for the specified key
+     * using the binary search algorithm. The result is undefined if the list is not sorted.
+     *
+     * @param key the value to be searched for
+     * @param c   the comparator by which the list is ordered, or {@code null} for natural ordering
+     * @return index of the key, if it is contained in the list; otherwise {@code (-(insertion point) - 1)}
+     */
+    public int binarySearch(E key, Comparator<? super E> c) {
+        return Arrays.binarySearch(elementData, 0, size, key, c);
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the internal array. Counts as one structural modification.
+     */
+    private void sort(Comparator<? super E> c, int from, int to, boolean parallel) {
+        int expectedModCount = modCount;
+        if (parallel) {
+            Arrays.parallelSort(elementData, from, to, c);
+        } else {
+            Arrays.sort(elementData, from, to, c);
+        }
+        equalsModCount(expectedModCount);
+        modCount++;
+    }
+
     /**
      * Returns a sublist of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
      * (If fromIndex and toIndex are equal, the returned list is empty.)
+     * The returned list is a view backed by this list: no elements are copied, changes made through the view
+     * are visible in this list and vice versa. Once this list is structurally modified other than through the view,
+     * any access to the view throws {@link ConcurrentModificationException}.
      *
      * @param fromIndex initial index (inclusive) of the subList
      * @param toIndex   endpoint (exclusive) of the subList
@@ -167,9 +485,7 @@ public class MyArrayList<E> {
      */
     public MyArrayList<E> subList(int fromIndex, int toIndex) {
         checkRange(fromIndex, toIndex);
-        E[] newData = (E[]) new Object[toIndex - fromIndex];
-        System.arraycopy(elementData, fromIndex, newData, 0, newData.length);
-        return new MyArrayList<>(Arrays.asList(newData));
+        return new SubList<>(this, null, fromIndex, toIndex - fromIndex);
     }
 
     /**
@@ -190,45 +506,112 @@ public class MyArrayList<E> {
 
     /**
      * Returns hash code for the list based on elements of this list.
+     * The result is the same as for a {@code java.util.List} and a {@link MyLinkedList} with the same elements.
      *
      * @return - hash code of this list
+     * @see #setHashCodeCaching(boolean)
      */
     @Override
     public int hashCode() {
+        if (hashValid && hashModCount == modCount) return cachedHash;
         int expectedModCount = modCount;
-        int hash = hashCode(size);
+        int hash = hashCode(1, 0, size);
         equalsModCount(expectedModCount);
+        if (hashCaching) {
+            cachedHash = hash;
+            hashModCount = modCount;
+            hashValid = true;
+        }
         return hash;
     }
 
-    private int hashCode(int to) {
-        int hash = 1;
-        for (int i = 0; i < to; i++) {
+    private int hashCode(int hash, int from, int to) {
+        for (int i = from; i < to; i++) {
             E e = elementData[i];
             hash = 31 * hash + (e == null ? 0 : e.hashCode());
         }
         return hash;
     }
 
+    /**
+     * Turns caching of the hash code on or off. While caching is on, {@link #hashCode()} keeps its result
+     * until the list is modified, and appending elements to the end updates the kept hash code instead of
+     * discarding it. Useful when the list is used as a key and is rarely modified. Caching is off by default.
+     *
+     * @param enabled {@code true} to cache the hash code
+     */
+    public void setHashCodeCaching(boolean enabled) {
+        hashCaching = enabled;
+        hashValid = false;
+    }
+
+    /**
+     * Extends the cached hash code with the elements from the specified index to the end, which have just been
+     * appended by a single structural modification, or drops the cache if it was already stale.
+     */
+    private void appendToHash(int from) {
+        if (hashModCount != modCount - 1) {
+            hashValid = false;
+            return;
+        }
+        cachedHash = hashCode(cachedHash, from, size);
+        hashModCount = modCount;
+    }
+
     /**
      * Compares the specified object with this list for equality.
-     * Returns {@code true} if and only if the specified object is also a list, both lists have the same size,
-     * and all corresponding pairs of elements in the two lists are equal.
+     * Returns {@code true} if and only if the specified object is also a {@code MyArrayList}, a {@link MyLinkedList}
+     * or a {@code java.util.List}, both lists have the same size, and all corresponding pairs of elements
+     * in the two lists are equal. Sizes and, when both lists cache them, hash codes are compared first.
      *
      * @param o the object to be compared for equality with this list
      * @return {@code true} if two lists contain the same elements in the same order
+     * @see #setHashCodeCaching(boolean)
      */
     @Override
     public boolean equals(Object o) {
-        int expectedModCount = modCount;
         if (this == o) return true;
-        if (!(o instanceof MyArrayList<?> that)) return false;
-        if (!super.equals(o)) return false;
-        boolean result = size == that.size && Objects.deepEquals(elementData, that.elementData);
+        int expectedModCount = modCount;
+        if (o instanceof MyArrayList<?> that && !(that instanceof SubList<?>) && size == that.size
+                && hashValid && hashModCount == modCount && that.hashValid && that.hashModCount == that.modCount
+                && cachedHash != that.cachedHash) {
+            return false;
+        }
+        boolean result = equalsRange(elementData, 0, size, o);
         equalsModCount(expectedModCount);
         return result;
     }
 
+    /**
+     * Compares the range {@code [from, to)} of the array with the specified list. Ranges of two array lists
+     * are compared with {@link Arrays#equals(Object[], int, int, Object[], int, int)}, other lists are iterated.
+     *
+     * @return {@code true} if the object is a list with the same elements as the range
+     */
+    private static boolean equalsRange(Object[] a, int from, int to, Object o) {
+        int size = to - from;
+        if (o instanceof SubList<?> that) {
+            that.checkForComodification();
+            return size == that.size
+                    && Arrays.equals(a, from, to, that.root.elementData, that.offset, that.offset + that.size);
+        } else if (o instanceof MyArrayList<?> that) {
+            return size == that.size && Arrays.equals(a, from, to, that.elementData, 0, that.size);
+        } else if (o instanceof MyLinkedList<?> that) {
+            return size == that.size() && equalsElements(a, from, to, that);
+        } else if (o instanceof List<?> that) {
+            return size == that.size() && equalsElements(a, from, to, that);
+        }
+        return false;
+    }
+
+    private static boolean equalsElements(Object[] a, int from, int to, Iterable<?> elements) {
+        int i = from;
+        for (Object e : elements) {
+            if (i == to || !Objects.equals(a[i++], e)) return false;
+        }
+        return i == to;
+    }
+
     /**
      * Checks if structural changes modified have been made.
      * Structural modifications are those that change the size of the list,
@@ -243,18 +626,404 @@ public class MyArrayList<E> {
 
     @Override
     public String toString() {
+        return toString(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a string with at most the specified number of elements of this list.
+     * The number of the remaining elements is noted instead of them, e.g. {@code [1, 2, ...98 more]}.
+     *
+     * @param maxElements the maximum number of elements in the string
+     * @return a bounded string representation of this list
+     * @throws IllegalArgumentException if {@code maxElements} is negative
+     */
+    public String toString(int maxElements) {
         StringBuilder sb = new StringBuilder();
-        if (size == 0) return "[]";
-        sb.append("[");
-        for (E e : elementData) {
-            sb.append(e);
-            sb.append(", ");
-        }
-        sb.delete(sb.length() - 2, sb.length());
-        sb.append("]");
+        try {
+            writeTo(sb, maxElements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
         return sb.toString();
     }
 
+    /**
+     * Writes the string representation of this list to the specified destination, such as a {@link java.io.Writer}.
+     * The text is passed on in chunks, so it is never built as a whole.
+     *
+     * @param out the destination of the text
+     * @throws IOException if the destination fails
+     */
+    public void writeTo(Appendable out) throws IOException {
+        writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes at most the specified number of elements of this list to the specified destination
+     * in the form of {@link #toString(int)}. The text is passed on in chunks, so it is never built as a whole.
+     *
+     * @param out         the destination of the text
+     * @param maxElements the maximum number of elements to be written
+     * @throws IOException              if the destination fails
+     * @throws IllegalArgumentException if {@code maxElements} is negative
+     */
+    public void writeTo(Appendable out, int maxElements) throws IOException {
+        int expectedModCount = modCount;
+        ListWriter.write(out, elementData, 0, size, maxElements);
+        equalsModCount(expectedModCount);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} with this list as its source.
+     *
+     * @return a sequential stream over the elements in this list
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@code Stream} with this list as its source.
+     *
+     * @return a possibly parallel stream over the elements in this list
+     */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Creates a late-binding and fail-fast {@link Spliterator} over the elements in this list.
+     * The spliterator reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}
+     * and splits its range of the internal array in halves.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator<>(this, 0, -1, 0);
+    }
+
+    /**
+     * Spliterator over a range of the internal array. The range is bound to the size of the list
+     * at the first traversal, split or size query rather than at creation.
+     */
+    private static final class ArrayListSpliterator<E> implements Spliterator<E> {
+
+        private final MyArrayList<E> root;
+        /**
+         * The current index, modified on advance and split.
+         */
+        private int index;
+        /**
+         * One past the last index, -1 until first use.
+         */
+        private int fence;
+        /**
+         * The value of {@code modCount} when the fence was set.
+         */
+        private int expectedModCount;
+
+        private ArrayListSpliterator(MyArrayList<E> root, int origin, int fence, int expectedModCount) {
+            this.root = root;
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = fence;
+            if (hi < 0) {
+                expectedModCount = root.modCount;
+                hi = fence = root.size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            return lo >= mid ? null : new ArrayListSpliterator<>(root, lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept(root.elementData[i]);
+                root.equalsModCount(expectedModCount);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            E[] data = root.elementData;
+            index = hi;
+            for (; i < hi; i++) {
+                action.accept(data[i]);
+            }
+            root.equalsModCount(expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * A view of the range {@code [offset, offset + size)} of the root list. It keeps no elements of its own
+     * and works directly on the internal array of the root list. Structural changes made through the view
+     * are applied to the root list and update the sizes of all enclosing views.
+     */
+    private static final class SubList<E> extends MyArrayList<E> {
+
+        private final MyArrayList<E> root;
+        private final SubList<E> parent;
+        private final int offset;
+        private int size;
+        /**
+         * The value of {@code modCount} of the root list which this view expects.
+         */
+        private int expectedModCount;
+
+        private SubList(MyArrayList<E> root, SubList<E> parent, int offset, int size) {
+            super(0);
+            this.root = root;
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = root.modCount;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            Objects.checkIndex(index, size + 1);
+            checkForComodification();
+            int rootSize = root.size;
+            boolean modified = root.addAll(offset + index, c);
+            if (modified) updateSize(root.size - rootSize);
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(MyArrayList<? extends E> list) {
+            return addAll(size, list);
+        }
+
+        @Override
+        public boolean addAll(int index, MyArrayList<? extends E> list) {
+            Objects.checkIndex(index, size + 1);
+            checkForComodification();
+            int rootSize = root.size;
+            boolean modified = root.addAll(offset + index, list);
+            if (modified) updateSize(root.size - rootSize);
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(E[] a) {
+            return addAll(size, a);
+        }
+
+        @Override
+        public boolean addAll(int index, E[] a) {
+            Objects.checkIndex(index, size + 1);
+            checkForComodification();
+            int rootSize = root.size;
+            boolean modified = root.addAll(offset + index, a);
+            if (modified) updateSize(root.size - rootSize);
+            return modified;
+        }
+
+        @Override
+        public void ensureCapacity(int minCapacity) {
+            checkForComodification();
+            root.ensureCapacity(root.size - size + minCapacity);
+        }
+
+        @Override
+        public void trimToSize() {
+            checkForComodification();
+            root.trimToSize();
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(root.elementData, offset, offset + size, Object[].class);
+        }
+
+        @Override
+        Object[] trimmedArray() {
+            return toArray();
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return root.elementData[offset + index];
+        }
+
+        @Override
+        public boolean add(E e) {
+            add(size, e);
+            return true;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            Objects.checkIndex(index, size + 1);
+            checkForComodification();
+            root.add(offset + index, element);
+            updateSize(1);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return root.set(offset + index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            E old = root.remove(offset + index);
+            updateSize(-1);
+            return old;
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            checkForComodification();
+            int removed = root.removeIf(filter, offset, offset + size);
+            if (removed > 0) updateSize(-removed);
+            return removed > 0;
+        }
+
+        @Override
+        public void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            if (fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+                throw new IndexOutOfBoundsException("from=" + fromIndex + ", to=" + toIndex + ", size=" + size);
+            }
+            if (fromIndex == toIndex) return;
+            root.removeRange(offset + fromIndex, offset + toIndex);
+            updateSize(fromIndex - toIndex);
+        }
+
+        @Override
+        public void sort(Comparator<? super E> c) {
+            checkForComodification();
+            root.sort(c, offset, offset + size, false);
+            updateSize(0);
+        }
+
+        @Override
+        public void parallelSort(Comparator<? super E> c) {
+            checkForComodification();
+            root.sort(c, offset, offset + size, true);
+            updateSize(0);
+        }
+
+        @Override
+        public int binarySearch(E key, Comparator<? super E> c) {
+            checkForComodification();
+            int index = Arrays.binarySearch(root.elementData, offset, offset + size, key, c);
+            return index >= 0 ? index - offset : index + offset;
+        }
+
+        @Override
+        public MyArrayList<E> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            if (fromIndex > toIndex || fromIndex < 0 || toIndex > size) {
+                throw new IndexOutOfBoundsException("from=" + fromIndex + ", to=" + toIndex + ", size=" + size);
+            }
+            return new SubList<>(root, this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            checkForComodification();
+            return new ArrayListSpliterator<>(root, offset, offset + size, expectedModCount);
+        }
+
+        @Override
+        public int hashCode() {
+            checkForComodification();
+            int hash = root.hashCode(1, offset, offset + size);
+            checkForComodification();
+            return hash;
+        }
+
+        /**
+         * Does nothing: a view computes its hash code from its range of the root list on every call.
+         */
+        @Override
+        public void setHashCodeCaching(boolean enabled) {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            checkForComodification();
+            boolean result = equalsRange(root.elementData, offset, offset + size, o);
+            checkForComodification();
+            return result;
+        }
+
+        @Override
+        public void writeTo(Appendable out, int maxElements) throws IOException {
+            checkForComodification();
+            ListWriter.write(out, root.elementData, offset, offset + size, maxElements);
+            checkForComodification();
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        /**
+         * @throws ConcurrentModificationException if the root list was structurally modified other than through this view
+         */
+        private void checkForComodification() {
+            root.equalsModCount(expectedModCount);
+        }
+
+        /**
+         * Applies the size change to this view and all enclosing views and records the new {@code modCount} of the root.
+         */
+        private void updateSize(int delta) {
+            for (SubList<E> list = this; list != null; list = list.parent) {
+                list.size += delta;
+                list.expectedModCount = root.modCount;
+            }
+        }
+    }
+
     /**
      * Returns amount of elements in the list.
      *
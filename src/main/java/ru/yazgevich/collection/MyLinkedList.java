@@ -1,8 +1,15 @@
 package ru.yazgevich.collection;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * This class is my LinkedList version. It implements only CRUD operations,{@code subList},
@@ -11,7 +18,7 @@ import java.util.Objects;
  *
  * @param <E> - the type of elements in this list
  */
-public class MyLinkedList<E> {
+public class MyLinkedList<E> implements Iterable<E> {
 
     /**
      * The first element of the list
@@ -29,6 +36,37 @@ public class MyLinkedList<E> {
      * * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
      */
     private int modCount = 0;
+    /**
+     * The node found by the last positional access. Sequential access by index starts from it
+     * instead of walking from {@code head} or {@code tail}.
+     */
+    private Node<E> finger;
+    /**
+     * The position of {@code finger} in the list.
+     */
+    private int fingerIndex;
+    /**
+     * The value of {@code modCount} at the moment {@code finger} was stored.
+     * The finger is valid only while no structural modifications have been made since then.
+     */
+    private int fingerModCount;
+    /**
+     * Removed nodes kept for reuse, linked through {@code next}. See {@link #setNodePoolSize(int)}.
+     */
+    private Node<E> freeNodes;
+    private int freeCount;
+    private int maxFreeCount;
+    /**
+     * Whether {@link #hashCode()} keeps its result, see {@link #setHashCodeCaching(boolean)}.
+     */
+    private boolean hashCaching;
+    /**
+     * Whether {@code cachedHash} holds the hash code of the list. It is valid only while {@code modCount}
+     * equals {@code hashModCount}, because any structural modification may change the elements.
+     */
+    private boolean hashValid;
+    private int cachedHash;
+    private int hashModCount;
 
     /**
      * Constructs an empty list
@@ -47,7 +85,6 @@ public class MyLinkedList<E> {
         this();
         if (c != null && !c.isEmpty()) {
             addAll(c);
-            size = c.size();
         }
     }
 
@@ -74,7 +111,7 @@ public class MyLinkedList<E> {
      */
     public void addFirst(E e) {
         Node<E> oldHead = head;
-        Node<E> newNode = new Node<>(null, e, oldHead);
+        Node<E> newNode = newNode(null, e, oldHead);
         head = newNode;
         if (oldHead == null) {
             tail = newNode;
@@ -93,7 +130,7 @@ public class MyLinkedList<E> {
      */
     public void addLast(E e) {
         Node<E> oldTail = tail;
-        Node<E> newNode = new Node<>(oldTail, e, null);
+        Node<E> newNode = newNode(oldTail, e, null);
         tail = newNode;
         if (oldTail == null) {
             head = newNode;
@@ -102,6 +139,7 @@ public class MyLinkedList<E> {
         }
         size++;
         modCount++;
+        if (hashValid) appendToHash(newNode);
     }
 
     /**
@@ -119,22 +157,18 @@ public class MyLinkedList<E> {
 
     /**
      * Inserts the specified element to the list at the specified index.
+     * If the index equals the size of the list, the element is appended to the end of the list.
      *
      * @param index index at which the specified element is to be inserted
      * @param e     element to be inserted
      */
     public void add(int index, E e) {
-        Objects.checkIndex(index, size);
-        Node<E> nextNode = head;
-        for (int i = 0; i < index; i++) {
-            nextNode = nextNode.next;
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            addLast(e);
+            return;
         }
-        Node<E> prevNode = nextNode.prev;
-        Node<E> curNode = new Node<>(prevNode, e, nextNode);
-        prevNode.next = curNode;
-        nextNode.prev = curNode;
-        size++;
-        modCount++;
+        setFinger(linkBefore(e, node(index)), index);
     }
 
     /**
@@ -145,11 +179,7 @@ public class MyLinkedList<E> {
      */
     public E get(int index) {
         Objects.checkIndex(index, size);
-        Node<E> node = head;
-        for (int i = 0; i < index; i++) {
-            node = node.next;
-        }
-        return node.value;
+        return node(index).value;
     }
 
     /**
@@ -161,12 +191,10 @@ public class MyLinkedList<E> {
      */
     public E set(int index, E element) {
         Objects.checkIndex(index, size);
-        Node<E> node = head;
-        for (int i = 0; i < index; i++) {
-            node = node.next;
-        }
+        Node<E> node = node(index);
         E oldValue = node.value;
         node.value = element;
+        hashValid = false;
         return oldValue;
     }
 
@@ -178,16 +206,366 @@ public class MyLinkedList<E> {
      */
     public E remove(int index) {
         Objects.checkIndex(index, size);
-        Node<E> node = head;
-        for (int i = 0; i < index; i++) {
-            node = node.next;
-        }
+        Node<E> node = node(index);
         E oldValue = node.value;
-        node.prev.next = node.next;
-        node.next.prev = node.prev;
+        Node<E> prevNode = node.prev;
+        Node<E> nextNode = node.next;
+        unlink(node);
+        if (nextNode != null) {
+            setFinger(nextNode, index);
+        } else if (prevNode != null) {
+            setFinger(prevNode, index - 1);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Inserts a new node with the specified element right before the specified node.
+     *
+     * @param e        element to be inserted
+     * @param nextNode node before which the element is inserted, must belong to this list
+     * @return the new node
+     */
+    private Node<E> linkBefore(E e, Node<E> nextNode) {
+        Node<E> prevNode = nextNode.prev;
+        Node<E> curNode = newNode(prevNode, e, nextNode);
+        if (prevNode == null) {
+            head = curNode;
+        } else {
+            prevNode.next = curNode;
+        }
+        nextNode.prev = curNode;
+        size++;
+        modCount++;
+        return curNode;
+    }
+
+    /**
+     * Removes the specified node from the list.
+     *
+     * @param node node to be removed, must belong to this list
+     */
+    private void unlink(Node<E> node) {
+        Node<E> prevNode = node.prev;
+        Node<E> nextNode = node.next;
+        if (prevNode == null) {
+            head = nextNode;
+        } else {
+            prevNode.next = nextNode;
+        }
+        if (nextNode == null) {
+            tail = prevNode;
+        } else {
+            nextNode.prev = prevNode;
+        }
         size--;
         modCount++;
-        return oldValue;
+        if (freeCount < maxFreeCount) {
+            node.value = null;
+            node.prev = null;
+            node.next = freeNodes;
+            freeNodes = node;
+            freeCount++;
+        }
+    }
+
+    /**
+     * Returns a node with the specified links and value, taken from the pool of removed nodes if it is not empty.
+     */
+    private Node<E> newNode(Node<E> prev, E e, Node<E> next) {
+        Node<E> node = freeNodes;
+        if (node == null) return new Node<>(prev, e, next);
+        freeNodes = node.next;
+        freeCount--;
+        node.prev = prev;
+        node.value = e;
+        node.next = next;
+        return node;
+    }
+
+    /**
+     * Sets the maximum number of removed nodes which the list keeps to reuse them for new elements.
+     * With a pool, a queue-like workload that adds and removes elements at the same rate
+     * stops allocating nodes once the pool is warm. The pool is empty and disabled by default;
+     * setting the size to zero disables it and releases the kept nodes.
+     *
+     * @param maxNodes the maximum number of kept nodes
+     * @throws IllegalArgumentException if {@code maxNodes} is negative
+     */
+    public void setNodePoolSize(int maxNodes) {
+        if (maxNodes < 0) {
+            throw new IllegalArgumentException("pool size cannot be < 0 : " + maxNodes);
+        }
+        maxFreeCount = maxNodes;
+        while (freeCount > maxNodes) {
+            freeNodes = freeNodes.next;
+            freeCount--;
+        }
+    }
+
+    /**
+     * Returns the node at the specified position. The walk starts from the nearest of {@code head},
+     * {@code tail} and the cached finger, so sequential access by index takes amortized constant time.
+     *
+     * @param index position of the node, must be a valid index
+     * @return node at the specified position
+     */
+    private Node<E> node(int index) {
+        Node<E> node;
+        int position;
+        if (index < (size >> 1)) {
+            node = head;
+            position = 0;
+        } else {
+            node = tail;
+            position = size - 1;
+        }
+        if (finger != null && fingerModCount == modCount
+                && Math.abs(index - fingerIndex) < Math.abs(index - position)) {
+            node = finger;
+            position = fingerIndex;
+        }
+        for (; position < index; position++) {
+            node = node.next;
+        }
+        for (; position > index; position--) {
+            node = node.prev;
+        }
+        setFinger(node, index);
+        return node;
+    }
+
+    /**
+     * Remembers the specified node as the finger for the current state of the list.
+     *
+     * @param node  node to be remembered
+     * @param index position of the node
+     */
+    private void setFinger(Node<E> node, int index) {
+        finger = node;
+        fingerIndex = index;
+        fingerModCount = modCount;
+    }
+
+    /**
+     * Moves all elements of the specified list to the end of this list by relinking the nodes, in constant time.
+     * The specified list becomes empty.
+     *
+     * @param other list whose nodes are transferred to this list
+     * @return {@code true} if this list has been modified
+     * @throws IllegalArgumentException if the specified list is this list
+     */
+    public boolean appendAll(MyLinkedList<E> other) {
+        return insertAll(size, other);
+    }
+
+    /**
+     * Moves all elements of the specified list into this list at the specified position by relinking the nodes.
+     * Apart from finding the position, this takes constant time. The specified list becomes empty.
+     *
+     * @param index  position at which the first element of the specified list is to be inserted
+     * @param other list whose nodes are transferred to this list
+     * @return {@code true} if this list has been modified
+     * @throws IllegalArgumentException if the specified list is this list
+     */
+    public boolean insertAll(int index, MyLinkedList<E> other) {
+        if (other == this) throw new IllegalArgumentException("cannot insert a list into itself");
+        Objects.checkIndex(index, size + 1);
+        if (other.size == 0) return false;
+        Node<E> nextNode = index == size ? null : node(index);
+        Node<E> prevNode = nextNode == null ? tail : nextNode.prev;
+        other.head.prev = prevNode;
+        other.tail.next = nextNode;
+        if (prevNode == null) {
+            head = other.head;
+        } else {
+            prevNode.next = other.head;
+        }
+        if (nextNode == null) {
+            tail = other.tail;
+        } else {
+            nextNode.prev = other.tail;
+        }
+        size += other.size;
+        modCount++;
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+        other.modCount++;
+        return true;
+    }
+
+    /**
+     * Cuts this list at the specified position by relinking the nodes: the elements from the position to the end
+     * are moved into a new list. Apart from finding the position, this takes constant time.
+     *
+     * @param index position of the first element to move into the new list
+     * @return a list with the elements {@code [index, size)} of this list
+     */
+    public MyLinkedList<E> split(int index) {
+        Objects.checkIndex(index, size + 1);
+        MyLinkedList<E> list = new MyLinkedList<>();
+        if (index == size) return list;
+        Node<E> first = node(index);
+        Node<E> last = first.prev;
+        list.head = first;
+        list.tail = tail;
+        list.size = size - index;
+        first.prev = null;
+        if (last == null) {
+            head = null;
+        } else {
+            last.next = null;
+        }
+        tail = last;
+        size = index;
+        modCount++;
+        return list;
+    }
+
+    /**
+     * Removes all elements of this list that satisfy the specified predicate in a single pass.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     * @throws ConcurrentModificationException if the predicate modifies this list
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        int removed = 0;
+        Node<E> node = head;
+        while (node != null) {
+            Node<E> nextNode = node.next;
+            boolean remove = filter.test(node.value);
+            equalsModCount(expectedModCount);
+            if (remove) {
+                unlink(node);
+                expectedModCount = modCount;
+                removed++;
+            }
+            node = nextNode;
+        }
+        return removed > 0;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list
+     * @see #listIterator(int)
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, starting at the specified position.
+     * The iterator moves in both directions and removes, replaces or inserts elements at the cursor in constant time.
+     * It is fail-fast: if the list is structurally modified other than through the iterator,
+     * the iterator throws {@link ConcurrentModificationException}.
+     *
+     * @param index position of the first element to be returned by {@code next}
+     * @return a list iterator over the elements in this list
+     */
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new ListItr(index);
+    }
+
+    private class ListItr implements ListIterator<E> {
+
+        /**
+         * The node returned by the last call to {@code next} or {@code previous}.
+         */
+        private Node<E> lastReturned;
+        /**
+         * The node to be returned by {@code next}, {@code null} at the end of the list.
+         */
+        private Node<E> next;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        private ListItr(int index) {
+            next = index == size ? null : node(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            equalsModCount(expectedModCount);
+            if (!hasNext()) throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            equalsModCount(expectedModCount);
+            if (!hasPrevious()) throw new NoSuchElementException();
+            lastReturned = next = next == null ? tail : next.prev;
+            nextIndex--;
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            equalsModCount(expectedModCount);
+            if (lastReturned == null) throw new IllegalStateException();
+            Node<E> lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if (next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturned == null) throw new IllegalStateException();
+            equalsModCount(expectedModCount);
+            lastReturned.value = e;
+            hashValid = false;
+        }
+
+        @Override
+        public void add(E e) {
+            equalsModCount(expectedModCount);
+            lastReturned = null;
+            if (next == null) {
+                addLast(e);
+            } else {
+                linkBefore(e, next);
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
     }
 
     /**
@@ -200,36 +578,67 @@ public class MyLinkedList<E> {
      */
     public MyLinkedList<E> subList(int fromIndex, int toIndex) {
         checkRange(fromIndex, toIndex);
-        Node<E> firstNode = head;
-        for (int i = 0; i < fromIndex; i++) {
-            firstNode = firstNode.next;
-        }
-        Node<E> lastNode = firstNode;
-        for (int i = 0; i < toIndex - fromIndex - 1; i++) {
-            lastNode = lastNode.prev;
-        }
-
         MyLinkedList<E> list = new MyLinkedList<>();
-        list.head = firstNode;
-        list.tail = lastNode;
-        list.size = toIndex - fromIndex;
+        if (fromIndex == toIndex) return list;
+        Node<E> node = node(fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            list.addLast(node.value);
+            node = node.next;
+        }
         return list;
     }
 
     @Override
     public String toString() {
-        if (size == 0) return "[]";
+        return toString(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a string with at most the specified number of elements of this list.
+     * The number of the remaining elements is noted instead of them, e.g. {@code [1, 2, ...98 more]}.
+     *
+     * @param maxElements the maximum number of elements in the string
+     * @return a bounded string representation of this list
+     * @throws IllegalArgumentException if {@code maxElements} is negative
+     */
+    public String toString(int maxElements) {
         StringBuilder sb = new StringBuilder();
-        sb.append('[');
-        Node<E> node = head;
-        while (node != null) {
-            E e = node.value;
-            sb.append(e);
-            node = node.next;
-            sb.append(',').append(' ');
+        try {
+            writeTo(sb, maxElements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the string representation of this list to the specified destination, such as a {@link java.io.Writer}.
+     * The text is passed on in chunks, so it is never built as a whole.
+     *
+     * @param out the destination of the text
+     * @throws IOException if the destination fails
+     */
+    public void writeTo(Appendable out) throws IOException {
+        writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes at most the specified number of elements of this list to the specified destination
+     * in the form of {@link #toString(int)}. The text is passed on in chunks, so it is never built as a whole.
+     *
+     * @param out         the destination of the text
+     * @param maxElements the maximum number of elements to be written
+     * @throws IOException              if the destination fails
+     * @throws IllegalArgumentException if {@code maxElements} is negative
+     */
+    public void writeTo(Appendable out, int maxElements) throws IOException {
+        int expectedModCount = modCount;
+        ListWriter writer = new ListWriter(out, maxElements);
+        for (Node<E> node = head; node != null; node = node.next) {
+            if (!writer.write(node.value)) break;
         }
-        sb.delete(sb.length() - 2, sb.length());
-        return sb.append(']').toString();
+        writer.finish(size);
+        equalsModCount(expectedModCount);
     }
 
     /**
@@ -287,46 +696,89 @@ public class MyLinkedList<E> {
 
     /**
      * Compares the specified object with this list for equality.
-     * Returns {@code true} if and only if the specified object is also a list, both lists have the same size,
-     * and all corresponding pairs of elements in the two lists are equal.
+     * Returns {@code true} if and only if the specified object is also a {@code MyLinkedList}, a {@link MyArrayList}
+     * or a {@code java.util.List}, both lists have the same size, and all corresponding pairs of elements
+     * in the two lists are equal.
      *
      * @param o the object to be compared for equality with this list
      * @return {@code true} if two lists contain the same elements in the same order
      */
     @Override
     public boolean equals(Object o) {
-        int expectedModCount = modCount;
         if (this == o) return true;
-        if (!(o instanceof MyLinkedList<?> that)) return false;
-        boolean result = size == that.size;
-        Node<E> thisNode = head;
-        Node<?> thatNode = that.head;
-        while (thisNode != null) {
-            if (thatNode != null) {
-                result &= Objects.equals(thisNode.value, thatNode.value);
-            } else return false;
-            thisNode = thisNode.next;
-            thatNode = thatNode.next;
+        if (o instanceof MyArrayList<?> that) return that.equals(this);
+        int expectedModCount = modCount;
+        boolean result;
+        if (o instanceof MyLinkedList<?> that) {
+            result = size == that.size && equalsElements(that);
+        } else if (o instanceof List<?> that) {
+            result = size == that.size() && equalsElements(that);
+        } else {
+            return false;
         }
         equalsModCount(expectedModCount);
         return result;
     }
 
+    private boolean equalsElements(Iterable<?> elements) {
+        Node<E> node = head;
+        for (Object e : elements) {
+            if (node == null || !Objects.equals(node.value, e)) return false;
+            node = node.next;
+        }
+        return node == null;
+    }
+
     /**
      * Returns hash code for the list based on elements of this list.
+     * The result is the same as for a {@code java.util.List} and a {@link MyArrayList} with the same elements.
      *
      * @return - hash code of this list
+     * @see #setHashCodeCaching(boolean)
      */
     @Override
     public int hashCode() {
+        if (hashValid && hashModCount == modCount) return cachedHash;
         int expectedModCount = modCount;
-        int hash = Objects.hash(size);
+        int hash = 1;
         Node<E> node = head;
         while (node != null) {
-            hash += Objects.hash(node.value);
+            E e = node.value;
+            hash = 31 * hash + (e == null ? 0 : e.hashCode());
             node = node.next;
         }
         equalsModCount(expectedModCount);
+        if (hashCaching) {
+            cachedHash = hash;
+            hashModCount = modCount;
+            hashValid = true;
+        }
         return hash;
     }
+
+    /**
+     * Turns caching of the hash code on or off. While caching is on, {@link #hashCode()} keeps its result
+     * until the list is modified, and appending elements to the end updates the kept hash code instead of
+     * discarding it. Useful when the list is used as a key and is rarely modified. Caching is off by default.
+     *
+     * @param enabled {@code true} to cache the hash code
+     */
+    public void setHashCodeCaching(boolean enabled) {
+        hashCaching = enabled;
+        hashValid = false;
+    }
+
+    /**
+     * Extends the cached hash code with the element of the node which has just been appended
+     * by a single structural modification, or drops the cache if it was already stale.
+     */
+    private void appendToHash(Node<E> node) {
+        if (hashModCount != modCount - 1) {
+            hashValid = false;
+            return;
+        }
+        E e = node.value;
+        cachedHash = 31 * cachedHash + (e == null ? 0 : e.hashCode());
+        hashModCount = modCount;
+    }
 }
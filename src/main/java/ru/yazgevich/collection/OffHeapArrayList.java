@@ -0,0 +1,348 @@
+package ru.yazgevich.collection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * This class is a version of {@link MyArrayList} that keeps its elements outside the Java heap.
+ * Elements are encoded by an {@link ElementCodec} into a direct {@link ByteBuffer},
+ * so the list itself puts almost no load on the garbage collector.
+ * It implements only CRUD operations, {@code subList}, {@code hashCode}, {@code toString} and {@code equals}.
+ * <p>
+ * {@code null} elements are not permitted. The whole storage is one buffer, so the capacity cannot exceed
+ * {@code Integer.MAX_VALUE / byteSize} elements, e.g. about 268 million {@code long} values.
+ * <p>
+ * The list must be closed when it is no longer needed; any operation on a closed list throws
+ * {@link IllegalStateException}. Closing the list, as well as replacing the buffer on growth, frees the native
+ * memory of the buffer at once when the JDK allows it, and otherwise leaves it to the garbage collector.
+ * The codec must not keep a reference to the buffer passed to it.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class OffHeapArrayList<E> implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * {@code sun.misc.Unsafe.invokeCleaner}, which frees a direct buffer at once,
+     * or {@code null} if it is not accessible.
+     */
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    private final ElementCodec<E> codec;
+    private final int elementSize;
+    /**
+     * The direct buffer that stores all the elements, {@code null} when the list is closed.
+     */
+    private ByteBuffer data;
+    private int capacity;
+    private int size;
+    /**
+     * The number of times this list has been structurally modified.
+     * Structural modifications are those that change the size of the list,
+     * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
+     */
+    private int modCount = 0;
+
+    /**
+     * constructs a list with a default capacity of ten.
+     *
+     * @param codec - codec which encodes the elements of the list
+     */
+    public OffHeapArrayList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructs a list with specified capacity.
+     *
+     * @param codec    - codec which encodes the elements of the list
+     * @param capacity - an initial capacity of the list
+     */
+    public OffHeapArrayList(ElementCodec<E> codec, int capacity) {
+        this.codec = Objects.requireNonNull(codec);
+        this.elementSize = codec.byteSize();
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("element size must be > 0 : " + elementSize);
+        }
+        int maxCapacity = Integer.MAX_VALUE / elementSize;
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be < 0 : " + capacity);
+        } else if (capacity > maxCapacity) {
+            throw new IllegalArgumentException("capacity cannot be > " + maxCapacity + " : " + capacity);
+        }
+        data = allocate(capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the element from the list at the specified index.
+     *
+     * @param index index of the element to return
+     * @return element at the specified position
+     */
+    public E get(int index) {
+        ByteBuffer data = data();
+        Objects.checkIndex(index, size);
+        return codec.read(data, index * elementSize);
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended to this list
+     * @return {@code true} if the specified element was added
+     */
+    public boolean add(E e) {
+        Objects.requireNonNull(e);
+        data();
+        if (capacity <= size) grow(size + 1);
+        codec.write(data, size * elementSize, e);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * Shifts the element at the specified position and all subsequent elements to the right.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    public void add(int index, E element) {
+        Objects.requireNonNull(element);
+        data();
+        Objects.checkIndex(index, size + 1);
+        if (capacity <= size) grow(size + 1);
+        data.put((index + 1) * elementSize, data, index * elementSize, (size - index) * elementSize);
+        codec.write(data, index * elementSize, element);
+        modCount++;
+        size++;
+    }
+
+    /**
+     * Allocates a bigger direct buffer and copies the used part of the current one into it.
+     * The length is doubled, but it is never less than ten elements.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        int maxCapacity = Integer.MAX_VALUE / elementSize;
+        if (minCapacity > maxCapacity) {
+            throw new OutOfMemoryError("required capacity " + minCapacity + " exceeds " + maxCapacity);
+        }
+        long doubled = Math.max((long) capacity * 2, DEFAULT_CAPACITY);
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), maxCapacity);
+        ByteBuffer newData = allocate(newCapacity);
+        newData.put(0, data, 0, size * elementSize);
+        ByteBuffer oldData = data;
+        data = newData;
+        free(oldData);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Frees the native memory of the direct buffer, which must not be used afterwards.
+     * Does nothing if the JDK does not allow it.
+     */
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // the buffer is left to the garbage collector
+        }
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * elementSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Replace the values in the list at the specified index with the specified value.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    public E set(int index, E element) {
+        Objects.requireNonNull(element);
+        ByteBuffer data = data();
+        Objects.checkIndex(index, size);
+        E old = codec.read(data, index * elementSize);
+        codec.write(data, index * elementSize, element);
+        return old;
+    }
+
+    /**
+     * Removes an element from the list at the specified index
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     */
+    public E remove(int index) {
+        ByteBuffer data = data();
+        Objects.checkIndex(index, size);
+        E old = codec.read(data, index * elementSize);
+        data.put(index * elementSize, data, (index + 1) * elementSize, (size - index - 1) * elementSize);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * (If fromIndex and toIndex are equal, the returned list is empty.)
+     * The returned list has its own off-heap storage and must be closed separately.
+     *
+     * @param fromIndex initial index (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    public OffHeapArrayList<E> subList(int fromIndex, int toIndex) {
+        ByteBuffer data = data();
+        checkRange(fromIndex, toIndex);
+        OffHeapArrayList<E> list = new OffHeapArrayList<>(codec, toIndex - fromIndex);
+        list.data.put(0, data, fromIndex * elementSize, (toIndex - fromIndex) * elementSize);
+        list.size = toIndex - fromIndex;
+        return list;
+    }
+
+    /**
+     * Checks if the internal array indexes are valid
+     *
+     * @throws IndexOutOfBoundsException if the indexes are outside the bounds of the internal array
+     *                                   or {@code from} < {@code to}
+     */
+    private void checkRange(int from, int to) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to);
+        } else if (from < 0) {
+            throw new IndexOutOfBoundsException("from=" + from);
+        } else if (to > size) {
+            throw new IndexOutOfBoundsException("to=" + to);
+        }
+    }
+
+    /**
+     * Releases the off-heap storage of this list. Closing an already closed list has no effect.
+     * The memory is returned to the system at once, or, if the JDK does not allow it,
+     * once the buffer becomes unreachable.
+     */
+    @Override
+    public void close() {
+        ByteBuffer oldData = data;
+        data = null;
+        if (oldData != null) free(oldData);
+        capacity = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the storage of this list.
+     *
+     * @return the direct buffer with the elements
+     * @throws IllegalStateException if the list is closed
+     */
+    private ByteBuffer data() {
+        ByteBuffer data = this.data;
+        if (data == null) throw new IllegalStateException("list is closed");
+        return data;
+    }
+
+    /**
+     * Returns hash code for the list based on elements of this list.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        ByteBuffer data = data();
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + codec.read(data, i * elementSize).hashCode();
+        }
+        equalsModCount(expectedModCount);
+        return hash;
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also an {@code OffHeapArrayList},
+     * both lists have the same size, and all corresponding pairs of elements in the two lists are equal.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        int expectedModCount = modCount;
+        if (this == o) return true;
+        if (!(o instanceof OffHeapArrayList<?> that)) return false;
+        if (size != that.size) return false;
+        ByteBuffer data = data();
+        ByteBuffer thatData = that.data();
+        boolean result = true;
+        for (int i = 0; i < size && result; i++) {
+            result = codec.read(data, i * elementSize).equals(that.codec.read(thatData, i * that.elementSize));
+        }
+        equalsModCount(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Checks if structural changes modified have been made.
+     *
+     * @param modCount The number of times this list has been structurally modified.
+     * @throws ConcurrentModificationException - if the list was modified during the execution of the method
+     */
+    private void equalsModCount(int modCount) {
+        if (this.modCount != modCount) throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public String toString() {
+        ByteBuffer data = data();
+        if (size == 0) return "[]";
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(codec.read(data, i * elementSize)).append(',').append(' ');
+        }
+        sb.delete(sb.length() - 2, sb.length());
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return size;
+    }
+}
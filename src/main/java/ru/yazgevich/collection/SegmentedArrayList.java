@@ -0,0 +1,288 @@
+package ru.yazgevich.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * This class is a version of {@link MyArrayList} that stores its elements in fixed-size chunks.
+ * The chunks are referenced from a small directory array, so growth only allocates one new chunk
+ * and never copies the elements already stored. An element is located by shifting and masking its index.
+ * It implements only CRUD operations, {@code subList}, {@code hashCode}, {@code toString} and {@code equals}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class SegmentedArrayList<E> {
+
+    private static final int CHUNK_SHIFT = 12;
+    /**
+     * The number of elements in one chunk, always a power of two.
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int DEFAULT_DIRECTORY_CAPACITY = 8;
+    /**
+     * The directory of chunks. Only the first {@code chunkCount} entries are allocated.
+     */
+    private Object[][] chunks;
+    private int chunkCount;
+    private int size;
+    /**
+     * The number of times this list has been structurally modified.
+     * Structural modifications are those that change the size of the list,
+     * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
+     */
+    private int modCount = 0;
+
+    /**
+     * constructs an empty list.
+     */
+    public SegmentedArrayList() {
+        chunks = new Object[DEFAULT_DIRECTORY_CAPACITY][];
+    }
+
+    /**
+     * Constructs a new list and appends all elements from the specified collection.
+     * If the specified collection == {@code null}, then construct an empty list.
+     *
+     * @param c the collection of elements which will be added to the new list
+     */
+    public SegmentedArrayList(Collection<? extends E> c) {
+        this();
+        if (c != null && !c.isEmpty()) {
+            addAll(c);
+        }
+    }
+
+    /**
+     * Adds all elements from the specified collection to this list.
+     *
+     * @param c the collection of elements which will be added to the list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        boolean modified = false;
+        for (E e : c) {
+            add(e);
+            modified = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Returns the element from the list at the specified index.
+     *
+     * @param index index of the element to return
+     * @return element at the specified position
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended to this list
+     * @return {@code true} if the specified element was added
+     */
+    public boolean add(E e) {
+        if (size == chunkCount << CHUNK_SHIFT) addChunk();
+        chunks[size >>> CHUNK_SHIFT][size & CHUNK_MASK] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * Shifts the element at the specified position and all subsequent elements to the right,
+     * carrying the last element of every chunk over to the next one.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        if (size == chunkCount << CHUNK_SHIFT) addChunk();
+        int lastChunk = size >>> CHUNK_SHIFT;
+        int indexChunk = index >>> CHUNK_SHIFT;
+        for (int k = lastChunk; k > indexChunk; k--) {
+            Object[] chunk = chunks[k];
+            int end = k == lastChunk ? size & CHUNK_MASK : CHUNK_MASK;
+            System.arraycopy(chunk, 0, chunk, 1, end);
+            chunk[0] = chunks[k - 1][CHUNK_MASK];
+        }
+        Object[] chunk = chunks[indexChunk];
+        int from = index & CHUNK_MASK;
+        int end = indexChunk == lastChunk ? size & CHUNK_MASK : CHUNK_MASK;
+        System.arraycopy(chunk, from, chunk, from + 1, end - from);
+        chunk[from] = element;
+        modCount++;
+        size++;
+    }
+
+    /**
+     * Allocates one more chunk. Only the directory, which holds a reference per chunk, is ever copied.
+     */
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        chunks[chunkCount++] = new Object[CHUNK_SIZE];
+    }
+
+    /**
+     * Replace the values in the list at the specified index with the specified value.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        Object[] chunk = chunks[index >>> CHUNK_SHIFT];
+        E old = (E) chunk[index & CHUNK_MASK];
+        chunk[index & CHUNK_MASK] = element;
+        return old;
+    }
+
+    /**
+     * Removes an element from the list at the specified index.
+     * Shifts all subsequent elements to the left, carrying the first element of every chunk over to the previous one.
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        int last = size - 1;
+        int lastChunk = last >>> CHUNK_SHIFT;
+        int indexChunk = index >>> CHUNK_SHIFT;
+        Object[] chunk = chunks[indexChunk];
+        int from = index & CHUNK_MASK;
+        E old = (E) chunk[from];
+        int end = indexChunk == lastChunk ? last & CHUNK_MASK : CHUNK_MASK;
+        System.arraycopy(chunk, from + 1, chunk, from, end - from);
+        for (int k = indexChunk + 1; k <= lastChunk; k++) {
+            Object[] next = chunks[k];
+            chunks[k - 1][CHUNK_MASK] = next[0];
+            System.arraycopy(next, 1, next, 0, k == lastChunk ? last & CHUNK_MASK : CHUNK_MASK);
+        }
+        chunks[lastChunk][last & CHUNK_MASK] = null;
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * (If fromIndex and toIndex are equal, the returned list is empty.)
+     *
+     * @param fromIndex initial index (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedArrayList<E> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        SegmentedArrayList<E> list = new SegmentedArrayList<>();
+        for (int i = fromIndex; i < toIndex; i++) {
+            list.add((E) chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK]);
+        }
+        return list;
+    }
+
+    /**
+     * Checks if the indexes are valid
+     *
+     * @throws IndexOutOfBoundsException if the indexes are outside the bounds of the list
+     *                                   or {@code from} < {@code to}
+     */
+    private void checkRange(int from, int to) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to);
+        } else if (from < 0) {
+            throw new IndexOutOfBoundsException("from=" + from);
+        } else if (to > size) {
+            throw new IndexOutOfBoundsException("to=" + to);
+        }
+    }
+
+    /**
+     * Returns hash code for the list based on elements of this list.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        int hash = 1;
+        for (int c = 0, remaining = size; remaining > 0; c++, remaining -= CHUNK_SIZE) {
+            Object[] chunk = chunks[c];
+            for (int i = 0, n = Math.min(remaining, CHUNK_SIZE); i < n; i++) {
+                Object e = chunk[i];
+                hash = 31 * hash + (e == null ? 0 : e.hashCode());
+            }
+        }
+        equalsModCount(expectedModCount);
+        return hash;
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also a {@code SegmentedArrayList},
+     * both lists have the same size, and all corresponding pairs of elements in the two lists are equal.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        int expectedModCount = modCount;
+        if (this == o) return true;
+        if (!(o instanceof SegmentedArrayList<?> that)) return false;
+        boolean result = size == that.size;
+        for (int c = 0, remaining = size; result && remaining > 0; c++, remaining -= CHUNK_SIZE) {
+            int n = Math.min(remaining, CHUNK_SIZE);
+            result = Arrays.equals(chunks[c], 0, n, that.chunks[c], 0, n);
+        }
+        equalsModCount(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Checks if structural changes modified have been made.
+     *
+     * @param modCount The number of times this list has been structurally modified.
+     * @throws ConcurrentModificationException - if the list was modified during the execution of the method
+     */
+    private void equalsModCount(int modCount) {
+        if (this.modCount != modCount) throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "[]";
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK]).append(',').append(' ');
+        }
+        sb.delete(sb.length() - 2, sb.length());
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return size;
+    }
+}
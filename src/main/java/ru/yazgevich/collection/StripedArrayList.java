@@ -0,0 +1,344 @@
+package ru.yazgevich.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * This class is a thread-safe version of {@link MyArrayList} for workloads where threads read and replace
+ * elements in different parts of the list. The index space is split into regions of {@code 1024} elements,
+ * and every region is guarded by one of {@code 64} {@link StampedLock} stripes, so {@code set} on disjoint
+ * regions takes different locks and {@code get} usually takes no lock at all thanks to optimistic reads.
+ * Structural changes take a global lock; operations which move or reallocate elements also take every stripe.
+ * It implements only CRUD operations, {@code subList}, {@code hashCode}, {@code toString} and {@code equals}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class StripedArrayList<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * The maximum length of the internal array. Some VMs reserve header words in an array.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int STRIPE_COUNT = 64;
+    /**
+     * The binary logarithm of the number of elements in one region.
+     */
+    private static final int REGION_SHIFT = 10;
+
+    private final StampedLock[] stripes = new StampedLock[STRIPE_COUNT];
+    /**
+     * Serializes structural modifications of the list.
+     */
+    private final ReentrantLock structureLock = new ReentrantLock();
+    /**
+     * The internal array. It is replaced only while every stripe is write-locked, and it never becomes shorter.
+     */
+    private volatile Object[] elementData;
+    /**
+     * The number of elements. It is increased only after the new element is stored.
+     */
+    private volatile int size;
+
+    /**
+     * constructs a list with a default capacity of ten.
+     */
+    public StripedArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * constructs a list with specified capacity.
+     *
+     * @param capacity - an initial capacity of the list
+     */
+    public StripedArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be < 0 : " + capacity);
+        }
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new StampedLock();
+        }
+        elementData = new Object[capacity];
+    }
+
+    /**
+     * Returns the element from the list at the specified index.
+     * The element is read optimistically and the read is repeated under the read lock of the stripe
+     * only if a writer of the same region interfered.
+     *
+     * @param index index of the element to return
+     * @return element at the specified position
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        StampedLock lock = stripe(index);
+        long stamp = lock.tryOptimisticRead();
+        int size = this.size;
+        Object[] data = elementData;
+        Object e = index >= 0 && index < size ? data[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                size = this.size;
+                e = index >= 0 && index < size ? elementData[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        Objects.checkIndex(index, size);
+        return (E) e;
+    }
+
+    /**
+     * Replace the values in the list at the specified index with the specified value.
+     * Only the stripe of the index is locked.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        StampedLock lock = stripe(index);
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkIndex(index, size);
+            Object[] data = elementData;
+            E old = (E) data[index];
+            data[index] = element;
+            return old;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     * The stripes are locked only when the internal array has to grow.
+     *
+     * @param e element to be appended to this list
+     * @return {@code true} if the specified element was added
+     */
+    public boolean add(E e) {
+        structureLock.lock();
+        try {
+            int size = this.size;
+            if (elementData.length <= size) grow(size + 1);
+            elementData[size] = e;
+            this.size = size + 1;
+            return true;
+        } finally {
+            structureLock.unlock();
+        }
+    }
+
+    /**
+     * Appends all elements from the specified collection to the end of this list.
+     *
+     * @param c the collection of elements which will be added to this list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        if (a.length == 0) return false;
+        structureLock.lock();
+        try {
+            int size = this.size;
+            if (elementData.length - size < a.length) grow(size + a.length);
+            System.arraycopy(a, 0, elementData, size, a.length);
+            this.size = size + a.length;
+            return true;
+        } finally {
+            structureLock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * Shifts the element at the specified position and all subsequent elements to the right.
+     * If the index equals the size of the list, the element is appended to the end of the list.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     */
+    public void add(int index, E element) {
+        structureLock.lock();
+        try {
+            long[] stamps = lockAll();
+            try {
+                int size = this.size;
+                Objects.checkIndex(index, size + 1);
+                if (elementData.length <= size) growLocked(size + 1);
+                Object[] data = elementData;
+                System.arraycopy(data, index, data, index + 1, size - index);
+                data[index] = element;
+                this.size = size + 1;
+            } finally {
+                unlockAll(stamps);
+            }
+        } finally {
+            structureLock.unlock();
+        }
+    }
+
+    /**
+     * Removes an element from the list at the specified index
+     *
+     * @param index the index of the element to be removed
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        structureLock.lock();
+        try {
+            long[] stamps = lockAll();
+            try {
+                int size = this.size;
+                Objects.checkIndex(index, size);
+                Object[] data = elementData;
+                E old = (E) data[index];
+                System.arraycopy(data, index + 1, data, index, size - index - 1);
+                data[size - 1] = null;
+                this.size = size - 1;
+                return old;
+            } finally {
+                unlockAll(stamps);
+            }
+        } finally {
+            structureLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the internal array by a bigger one while every stripe is write-locked,
+     * so that no concurrent {@code set} is lost in the old array. Must be called under the structure lock.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        long[] stamps = lockAll();
+        try {
+            growLocked(minCapacity);
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * Doubles the length of the internal array, but makes it no less than {@code minCapacity} and ten,
+     * and no more than the maximum array length. Must be called while every stripe is write-locked.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void growLocked(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("required capacity " + Integer.toUnsignedString(minCapacity));
+        }
+        long doubled = Math.max(2L * elementData.length, DEFAULT_CAPACITY);
+        int newCapacity = (int) Math.min(Math.max(doubled, minCapacity), MAX_ARRAY_SIZE);
+        elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+
+    private StampedLock stripe(int index) {
+        return stripes[(index >>> REGION_SHIFT) & (STRIPE_COUNT - 1)];
+    }
+
+    /**
+     * Write-locks every stripe in ascending order.
+     *
+     * @return the stamps of the stripes
+     */
+    private long[] lockAll() {
+        long[] stamps = new long[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stamps[i] = stripes[i].writeLock();
+        }
+        return stamps;
+    }
+
+    private void unlockAll(long[] stamps) {
+        for (int i = STRIPE_COUNT - 1; i >= 0; i--) {
+            stripes[i].unlockWrite(stamps[i]);
+        }
+    }
+
+    /**
+     * Returns an array with a consistent snapshot of all elements of this list in proper sequence.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        structureLock.lock();
+        try {
+            long[] stamps = lockAll();
+            try {
+                return Arrays.copyOf(elementData, size);
+            } finally {
+                unlockAll(stamps);
+            }
+        } finally {
+            structureLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * (If fromIndex and toIndex are equal, the returned list is empty.)
+     * The sublist is an independent copy of a consistent snapshot of the range.
+     *
+     * @param fromIndex initial index (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    public StripedArrayList<E> subList(int fromIndex, int toIndex) {
+        Object[] snapshot = toArray();
+        Objects.checkFromToIndex(fromIndex, toIndex, snapshot.length);
+        StripedArrayList<E> list = new StripedArrayList<>(0);
+        list.elementData = Arrays.copyOfRange(snapshot, fromIndex, toIndex);
+        list.size = toIndex - fromIndex;
+        return list;
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns hash code for the list based on a snapshot of the elements of this list.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also a {@code StripedArrayList}
+     * and snapshots of both lists contain the same elements in the same order.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StripedArrayList<?> that)) return false;
+        return Arrays.equals(toArray(), that.toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
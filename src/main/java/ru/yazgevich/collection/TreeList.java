@@ -0,0 +1,620 @@
+package ru.yazgevich.collection;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * This class is a list stored in a balanced binary tree (a treap keyed implicitly by position).
+ * Every node keeps the size of its subtree, so a position is found by descending the tree, and
+ * {@code get}, {@code set}, {@code add(index)} and {@code remove(index)} take expected {@code O(log n)} time at any index.
+ * Whole lists can be cut by {@link #split(int)} and joined by {@link #concat(TreeList)} in {@code O(log n)}.
+ * It implements the CRUD operations of {@link MyArrayList} and {@link MyLinkedList}, {@code subList},
+ * {@code hashCode}, {@code toString} and {@code equals}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class TreeList<E> {
+
+    /**
+     * The source of the initial seeds, so that every list draws its own sequence of priorities.
+     */
+    private static final AtomicInteger SEEDS = new AtomicInteger();
+    private Node<E> root;
+    /**
+     * The number of times this list has been structurally modified.
+     * Structural modifications are those that change the size of the list,
+     * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
+     */
+    private int modCount = 0;
+    /**
+     * The state of the generator of node priorities.
+     */
+    private int seed = newSeed();
+
+    /**
+     * Constructs an empty list
+     */
+    public TreeList() {
+    }
+
+    /**
+     * Constructs a new list and appends all elements from the specified collection
+     *
+     * @param c the collection of elements which will be added to the new list
+     */
+    public TreeList(Collection<? extends E> c) {
+        this();
+        if (c != null && !c.isEmpty()) {
+            addAll(c);
+        }
+    }
+
+    /**
+     * Adds all elements from the specified collection to the end of this list.
+     *
+     * @param c the collection of elements which will be added to the list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        boolean modified = false;
+        for (E e : c) {
+            add(e);
+            modified = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Adds the specified element to the start of the list
+     *
+     * @param e element to be inserted
+     */
+    public void addFirst(E e) {
+        add(0, e);
+    }
+
+    /**
+     * Adds the specified element to the end of the list
+     *
+     * @param e element to be appended
+     */
+    public void addLast(E e) {
+        add(size(), e);
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended
+     * @return {@code true} if the specified element was added
+     */
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * If the index equals the size of the list, the element is appended to the end of the list.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param e     element to be inserted
+     */
+    public void add(int index, E e) {
+        Objects.checkIndex(index, size() + 1);
+        root = insert(root, index, new Node<>(e, nextPriority()));
+        modCount++;
+    }
+
+    /**
+     * Returns the element from the list at the specified position.
+     *
+     * @param index position of the element to return
+     * @return element at the specified position
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return node(index).value;
+    }
+
+    /**
+     * Replace the values in the list at the specified position with the specified value.
+     *
+     * @param index   position of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size());
+        Node<E> node = node(index);
+        E oldValue = node.value;
+        node.value = element;
+        return oldValue;
+    }
+
+    /**
+     * Removes an element from the list at the specified position
+     *
+     * @param index the position of the element to be removed
+     * @return the removed element
+     */
+    public E remove(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> parent = null;
+        Node<E> node = root;
+        int i = index;
+        while (true) {
+            int leftSize = size(node.left);
+            if (i == leftSize) break;
+            node.size--;
+            parent = node;
+            if (i < leftSize) {
+                node = node.left;
+            } else {
+                i -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        Node<E> joined = merge(node.left, node.right);
+        if (parent == null) {
+            root = joined;
+        } else if (parent.left == node) {
+            parent.left = joined;
+        } else {
+            parent.right = joined;
+        }
+        modCount++;
+        return node.value;
+    }
+
+    /**
+     * Removes the elements from the specified position to the end of this list and returns them as a new list.
+     * No elements are copied, the tree is cut in {@code O(log n)}.
+     *
+     * @param index position of the first element to move into the new list
+     * @return a list with the elements {@code [index, size)} of this list
+     */
+    public TreeList<E> split(int index) {
+        Objects.checkIndex(index, size() + 1);
+        Split<E> parts = split(root, index);
+        root = parts.left();
+        modCount++;
+        TreeList<E> tail = new TreeList<>();
+        tail.root = parts.right();
+        return tail;
+    }
+
+    /**
+     * Moves all elements of the specified list to the end of this list in {@code O(log n)}.
+     * The specified list becomes empty.
+     *
+     * @param other list whose elements are transferred to this list
+     * @throws IllegalArgumentException if the specified list is this list or a sublist view
+     */
+    public void concat(TreeList<E> other) {
+        if (other == this) throw new IllegalArgumentException("cannot concat a list to itself");
+        if (other instanceof SubList) throw new IllegalArgumentException("cannot concat a sublist view");
+        root = merge(root, other.root);
+        other.root = null;
+        modCount++;
+        other.modCount++;
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex ( inclusive ) and toIndex ( exclusive ).
+     * If fromIndex and toIndex are equal, the returned list is empty.
+     * The returned list is a view backed by this list; creating it costs {@code O(1)} and each access {@code O(log n)}.
+     * Once this list is structurally modified other than through the view,
+     * any access to the view throws {@link ConcurrentModificationException}.
+     * The view does not support {@link #split(int)} and {@link #concat(TreeList)}.
+     *
+     * @param fromIndex initial position (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    public TreeList<E> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, size());
+        return new SubList<>(this, null, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return size(root);
+    }
+
+    private Node<E> node(int index) {
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index == leftSize) return node;
+            if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Inserts the node at the position inside the subtree, descending while the node has the lower priority
+     * and splitting the subtree where it takes its place.
+     *
+     * @return the new root of the subtree
+     */
+    private Node<E> insert(Node<E> tree, int index, Node<E> node) {
+        if (tree == null) return node;
+        if (node.priority > tree.priority) {
+            Split<E> parts = split(tree, index);
+            node.left = parts.left();
+            node.right = parts.right();
+            node.size = 1 + size(node.left) + size(node.right);
+            return node;
+        }
+        int leftSize = size(tree.left);
+        if (index <= leftSize) {
+            tree.left = insert(tree.left, index, node);
+        } else {
+            tree.right = insert(tree.right, index - leftSize - 1, node);
+        }
+        tree.size++;
+        return tree;
+    }
+
+    /**
+     * Splits the subtree into the first {@code index} elements and the rest.
+     *
+     * @return the two subtrees, either may be {@code null}
+     */
+    private static <E> Split<E> split(Node<E> tree, int index) {
+        if (tree == null) return new Split<>(null, null);
+        int leftSize = size(tree.left);
+        Split<E> parts;
+        if (index <= leftSize) {
+            Split<E> leftParts = split(tree.left, index);
+            tree.left = leftParts.right();
+            parts = new Split<>(leftParts.left(), tree);
+        } else {
+            Split<E> rightParts = split(tree.right, index - leftSize - 1);
+            tree.right = rightParts.left();
+            parts = new Split<>(tree, rightParts.right());
+        }
+        tree.size = 1 + size(tree.left) + size(tree.right);
+        return parts;
+    }
+
+    /**
+     * Joins two subtrees where every element of the left one precedes every element of the right one.
+     *
+     * @return the root of the joined subtree
+     */
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.size = 1 + size(left.left) + size(left.right);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.size = 1 + size(right.left) + size(right.right);
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns a distinct non-zero initial state of the generator of priorities for a new list.
+     */
+    private static int newSeed() {
+        int x = SEEDS.addAndGet(0x9E3779B9);
+        x = (x ^ (x >>> 16)) * 0x85EBCA6B;
+        x = (x ^ (x >>> 13)) * 0xC2B2AE35;
+        x ^= x >>> 16;
+        return x == 0 ? 1 : x;
+    }
+
+    /**
+     * Returns the next pseudo-random priority (xorshift).
+     */
+    private int nextPriority() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x;
+    }
+
+    /**
+     * Passes the elements with positions in {@code [from, to)} to the action in order.
+     * Only the subtrees overlapping the range are visited.
+     *
+     * @param offset position of the first element of the subtree
+     */
+    private static <E> void forEach(Node<E> node, int offset, int from, int to, Consumer<? super E> action) {
+        while (node != null && offset < to && offset + node.size > from) {
+            int position = offset + size(node.left);
+            if (from < position) {
+                forEach(node.left, offset, from, to, action);
+            }
+            if (position >= to) return;
+            if (position >= from) {
+                action.accept(node.value);
+            }
+            offset = position + 1;
+            node = node.right;
+        }
+    }
+
+    /**
+     * Returns the elements with positions in {@code [from, to)} as an array.
+     */
+    private Object[] toArray(int from, int to) {
+        Object[] a = new Object[to - from];
+        int[] i = {0};
+        forEach(root, 0, from, to, e -> a[i[0]++] = e);
+        return a;
+    }
+
+    /**
+     * Returns an array containing all elements of this list in proper sequence.
+     *
+     * @return a new array with the elements of this list
+     */
+    public Object[] toArray() {
+        return toArray(0, size());
+    }
+
+    /**
+     * Checks if the indexes are valid
+     *
+     * @throws IndexOutOfBoundsException if the indexes are outside the bounds of the list
+     *                                   or {@code from} < {@code to}
+     */
+    private static void checkRange(int from, int to, int size) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to);
+        } else if (from < 0) {
+            throw new IndexOutOfBoundsException("from=" + from);
+        } else if (to > size) {
+            throw new IndexOutOfBoundsException("to=" + to);
+        }
+    }
+
+    /**
+     * Checks if structural changes modified have been made.
+     *
+     * @param modCount The number of times this list has been structurally modified.
+     * @throws ConcurrentModificationException - if the list was modified during the execution of the method
+     */
+    private void equalsModCount(int modCount) {
+        if (this.modCount != modCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Returns hash code for the list based on elements of this list.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        int hash = 1;
+        for (Walker<E> walker = walker(); walker.hasNext(); ) {
+            E e = walker.next();
+            hash = 31 * hash + (e == null ? 0 : e.hashCode());
+        }
+        equalsModCount(expectedModCount);
+        return hash;
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also a {@code TreeList},
+     * both lists have the same size, and all corresponding pairs of elements in the two lists are equal.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        int expectedModCount = modCount;
+        if (this == o) return true;
+        if (!(o instanceof TreeList<?> that)) return false;
+        boolean result = size() == that.size();
+        Walker<E> walker = walker();
+        Walker<?> thatWalker = that.walker();
+        while (result && walker.hasNext()) {
+            result = Objects.equals(walker.next(), thatWalker.next());
+        }
+        equalsModCount(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Returns a walker over the elements of this list in order.
+     */
+    Walker<E> walker() {
+        return new Walker<>(root, 0, size());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The two subtrees produced by {@link #split(Node, int)}.
+     */
+    private record Split<E>(Node<E> left, Node<E> right) {
+    }
+
+    /**
+     * Walks the elements with positions in {@code [from, to)} in order, keeping only the path to the current node.
+     */
+    static final class Walker<E> {
+
+        /**
+         * The current node on top and the ancestors whose elements follow it.
+         */
+        private final ArrayDeque<Node<E>> stack = new ArrayDeque<>();
+        private int remaining;
+
+        private Walker(Node<E> root, int from, int to) {
+            remaining = to - from;
+            Node<E> node = root;
+            int index = from;
+            while (node != null && remaining > 0) {
+                int leftSize = size(node.left);
+                if (index <= leftSize) {
+                    stack.push(node);
+                    if (index == leftSize) break;
+                    node = node.left;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        boolean hasNext() {
+            return remaining > 0;
+        }
+
+        E next() {
+            Node<E> node = stack.pop();
+            remaining--;
+            for (Node<E> child = node.right; child != null; child = child.left) {
+                stack.push(child);
+            }
+            return node.value;
+        }
+    }
+
+    private static class Node<E> {
+
+        private E value;
+        private final int priority;
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        private Node(E value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * A view of the positions {@code [offset, offset + size)} of the root list.
+     * All operations are translated to the root list; structural changes update the sizes of all enclosing views.
+     */
+    private static final class SubList<E> extends TreeList<E> {
+
+        private final TreeList<E> rootList;
+        private final SubList<E> parent;
+        private final int offset;
+        private int size;
+        /**
+         * The value of {@code modCount} of the root list which this view expects.
+         */
+        private int expectedModCount;
+
+        private SubList(TreeList<E> rootList, SubList<E> parent, int offset, int size) {
+            this.rootList = rootList;
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = rootList.modCount;
+        }
+
+        @Override
+        public void add(int index, E e) {
+            Objects.checkIndex(index, size + 1);
+            checkForComodification();
+            rootList.add(offset + index, e);
+            updateSize(1);
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return rootList.get(offset + index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            return rootList.set(offset + index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+            E old = rootList.remove(offset + index);
+            updateSize(-1);
+            return old;
+        }
+
+        @Override
+        public TreeList<E> split(int index) {
+            throw new UnsupportedOperationException("split of a sublist view");
+        }
+
+        @Override
+        public void concat(TreeList<E> other) {
+            throw new UnsupportedOperationException("concat to a sublist view");
+        }
+
+        @Override
+        public TreeList<E> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            return new SubList<>(rootList, this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return rootList.toArray(offset, offset + size);
+        }
+
+        @Override
+        Walker<E> walker() {
+            checkForComodification();
+            return new Walker<>(rootList.root, offset, offset + size);
+        }
+
+        private void checkForComodification() {
+            rootList.equalsModCount(expectedModCount);
+        }
+
+        private void updateSize(int delta) {
+            for (SubList<E> list = this; list != null; list = list.parent) {
+                list.size += delta;
+                list.expectedModCount = rootList.modCount;
+            }
+        }
+    }
+}
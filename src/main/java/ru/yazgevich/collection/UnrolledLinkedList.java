@@ -0,0 +1,452 @@
+package ru.yazgevich.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * This class is a version of {@link MyLinkedList} where every node holds a small array of elements
+ * instead of a single element. Full nodes are split in half on insertion and sparse neighbouring nodes
+ * are merged on removal, so iteration touches far fewer objects and the list needs much less memory.
+ * It implements only CRUD operations, {@code subList}, {@code hashCode}, {@code toString} and {@code equals}.
+ *
+ * @param <E> - the type of elements in this list
+ */
+public class UnrolledLinkedList<E> {
+
+    /**
+     * The maximum number of elements in one node.
+     */
+    private static final int NODE_CAPACITY = 64;
+    /**
+     * Two neighbouring nodes are merged when together they hold no more than this number of elements.
+     */
+    private static final int MERGE_THRESHOLD = NODE_CAPACITY * 3 / 4;
+
+    /**
+     * The first node of the list
+     */
+    private Node head;
+    /**
+     * The last node of the list
+     */
+    private Node tail;
+
+    private int size = 0;
+    /**
+     * The number of times this list has been structurally modified.
+     * Structural modifications are those that change the size of the list,
+     * or otherwise perturb it in such a fashion that iterations in progress may yield incorrect results.
+     */
+    private int modCount = 0;
+    /**
+     * The node found by the last call of {@link #seek(int)}.
+     */
+    private Node seekNode;
+    /**
+     * The position of the sought element inside {@code seekNode}.
+     */
+    private int seekOffset;
+
+    /**
+     * Constructs an empty list
+     */
+    public UnrolledLinkedList() {
+        head = null;
+        tail = null;
+    }
+
+    /**
+     * Constructs a new list and appends all elements from the specified collection
+     *
+     * @param c the collection of elements which will be added to the new list
+     */
+    public UnrolledLinkedList(Collection<? extends E> c) {
+        this();
+        if (c != null && !c.isEmpty()) {
+            addAll(c);
+        }
+    }
+
+    /**
+     * Adds all elements from the specified collection to this list.
+     *
+     * @param c the collection of elements which will be added to the list
+     * @return {@code true} if the list has been modified
+     */
+    public boolean addAll(Collection<? extends E> c) {
+        boolean modified = false;
+        for (E e : c) {
+            addLast(e);
+            modified = true;
+        }
+        return modified;
+    }
+
+    /**
+     * Adds the specified element to the start of the list
+     *
+     * @param e element to be inserted
+     * @see #addLast
+     */
+    public void addFirst(E e) {
+        if (head == null || head.count == NODE_CAPACITY) {
+            linkBefore(new Node(), head);
+        }
+        insert(head, 0, e);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds the specified element to the end of the list
+     *
+     * @param e element to be appended
+     * @see #addFirst
+     */
+    public void addLast(E e) {
+        if (tail == null || tail.count == NODE_CAPACITY) {
+            linkAfter(new Node(), tail);
+        }
+        tail.elements[tail.count++] = e;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     *
+     * @param e element to be appended
+     * @return {@code true} if the specified element was added
+     * @see #addLast
+     * @see #addFirst
+     */
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element to the list at the specified index.
+     * If the index equals the size of the list, the element is appended to the end of the list.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param e     element to be inserted
+     */
+    public void add(int index, E e) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            addLast(e);
+            return;
+        }
+        seek(index);
+        Node node = seekNode;
+        int offset = seekOffset;
+        if (node.count == NODE_CAPACITY) {
+            Node right = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = right;
+            }
+        }
+        insert(node, offset, e);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Returns the element from the list at the specified position.
+     *
+     * @param index position of the element to return
+     * @return element at the specified position
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        seek(index);
+        return (E) seekNode.elements[seekOffset];
+    }
+
+    /**
+     * Replace the values in the list at the specified position with the specified value.
+     *
+     * @param index   position of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the value replaced
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        seek(index);
+        Object[] elements = seekNode.elements;
+        E oldValue = (E) elements[seekOffset];
+        elements[seekOffset] = element;
+        return oldValue;
+    }
+
+    /**
+     * Removes an element from the list at the specified position.
+     * A node left empty is unlinked, a sparse node is merged with a neighbour when they fit into one node.
+     *
+     * @param index the position of the element to be removed
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        seek(index);
+        Node node = seekNode;
+        int offset = seekOffset;
+        E oldValue = (E) node.elements[offset];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.next != null && node.count + node.next.count <= MERGE_THRESHOLD) {
+            merge(node, node.next);
+        } else if (node.prev != null && node.prev.count + node.count <= MERGE_THRESHOLD) {
+            merge(node.prev, node);
+        }
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Finds the node holding the element at the specified position and stores it in {@code seekNode},
+     * and the position of the element inside the node in {@code seekOffset}.
+     * The walk starts from {@code head} or {@code tail}, whichever is closer.
+     *
+     * @param index position of the element, must be a valid index
+     */
+    private void seek(int index) {
+        if (index < (size >> 1)) {
+            Node node = head;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+            seekNode = node;
+            seekOffset = index;
+        } else {
+            Node node = tail;
+            int fromEnd = size - index;
+            while (fromEnd > node.count) {
+                fromEnd -= node.count;
+                node = node.prev;
+            }
+            seekNode = node;
+            seekOffset = node.count - fromEnd;
+        }
+    }
+
+    /**
+     * Inserts the element into the node which has free space, shifting the subsequent elements of the node.
+     */
+    private void insert(Node node, int offset, E e) {
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = e;
+        node.count++;
+    }
+
+    /**
+     * Moves the upper half of the full node into a new node linked right after it.
+     *
+     * @return the new node
+     */
+    private Node split(Node node) {
+        Node right = new Node();
+        int half = node.count >> 1;
+        right.count = node.count - half;
+        System.arraycopy(node.elements, half, right.elements, 0, right.count);
+        Arrays.fill(node.elements, half, node.count, null);
+        node.count = half;
+        linkAfter(right, node);
+        return right;
+    }
+
+    /**
+     * Moves all elements of the right node to the end of the left node and unlinks the right node.
+     */
+    private void merge(Node left, Node right) {
+        System.arraycopy(right.elements, 0, left.elements, left.count, right.count);
+        left.count += right.count;
+        unlink(right);
+    }
+
+    private void linkAfter(Node node, Node prev) {
+        Node next = prev == null ? head : prev.next;
+        node.prev = prev;
+        node.next = next;
+        if (prev == null) {
+            head = node;
+        } else {
+            prev.next = node;
+        }
+        if (next == null) {
+            tail = node;
+        } else {
+            next.prev = node;
+        }
+    }
+
+    private void linkBefore(Node node, Node next) {
+        if (next == null) {
+            linkAfter(node, tail);
+        } else {
+            linkAfter(node, next.prev);
+        }
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Returns a sublist of this list between the specified fromIndex ( inclusive ) and toIndex ( exclusive ).
+     * If fromIndex and toIndex are equal, the returned list is empty.
+     *
+     * @param fromIndex initial position (inclusive) of the subList
+     * @param toIndex   endpoint (exclusive) of the subList
+     * @return returns a sublist of this list
+     */
+    @SuppressWarnings("unchecked")
+    public UnrolledLinkedList<E> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        UnrolledLinkedList<E> list = new UnrolledLinkedList<>();
+        if (fromIndex == toIndex) return list;
+        seek(fromIndex);
+        Node node = seekNode;
+        int offset = seekOffset;
+        for (int remaining = toIndex - fromIndex; remaining > 0; node = node.next, offset = 0) {
+            int n = Math.min(node.count - offset, remaining);
+            for (int i = offset; i < offset + n; i++) {
+                list.addLast((E) node.elements[i]);
+            }
+            remaining -= n;
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "[]";
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                sb.append(node.elements[i]).append(',').append(' ');
+            }
+        }
+        sb.delete(sb.length() - 2, sb.length());
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Checks if the indexes are valid
+     *
+     * @throws IndexOutOfBoundsException if the indexes are outside the bounds of the list
+     *                                   or {@code from} < {@code to}
+     */
+    private void checkRange(int from, int to) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to);
+        } else if (from < 0) {
+            throw new IndexOutOfBoundsException("from=" + from);
+        } else if (to > size) {
+            throw new IndexOutOfBoundsException("to=" + to);
+        }
+    }
+
+    /**
+     * Returns amount of elements in the list.
+     *
+     * @return amount of elements in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    private static class Node {
+
+        private final Object[] elements = new Object[NODE_CAPACITY];
+        private int count;
+        private Node next;
+        private Node prev;
+    }
+
+    /**
+     * Checks if structural changes modified have been made.
+     *
+     * @param modCount The number of times this list has been structurally modified.
+     * @throws ConcurrentModificationException - if the list was modified during the execution of the method
+     */
+    private void equalsModCount(int modCount) {
+        if (this.modCount != modCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Compares the specified object with this list for equality.
+     * Returns {@code true} if and only if the specified object is also an {@code UnrolledLinkedList},
+     * both lists have the same size, and all corresponding pairs of elements in the two lists are equal.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if two lists contain the same elements in the same order
+     */
+    @Override
+    public boolean equals(Object o) {
+        int expectedModCount = modCount;
+        if (this == o) return true;
+        if (!(o instanceof UnrolledLinkedList<?> that)) return false;
+        if (size != that.size) return false;
+        Node thisNode = head;
+        Node thatNode = that.head;
+        int thisOffset = 0;
+        int thatOffset = 0;
+        boolean result = true;
+        for (int i = 0; i < size && result; i++) {
+            if (thisOffset == thisNode.count) {
+                thisNode = thisNode.next;
+                thisOffset = 0;
+            }
+            if (thatOffset == thatNode.count) {
+                thatNode = thatNode.next;
+                thatOffset = 0;
+            }
+            result = Objects.equals(thisNode.elements[thisOffset++], thatNode.elements[thatOffset++]);
+        }
+        equalsModCount(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Returns hash code for the list based on elements of this list.
+     *
+     * @return - hash code of this list
+     */
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        int hash = 1;
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                Object e = node.elements[i];
+                hash = 31 * hash + (e == null ? 0 : e.hashCode());
+            }
+        }
+        equalsModCount(expectedModCount);
+        return hash;
+    }
+}
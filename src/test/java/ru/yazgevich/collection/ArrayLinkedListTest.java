@@ -0,0 +1,81 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArrayLinkedListTest {
+
+    @Test
+    void equalsComparesElementsInOrder() {
+        ArrayLinkedList<Integer> list = new ArrayLinkedList<>(List.of(1, 2, 3));
+        assertEquals(new ArrayLinkedList<>(List.of(1, 2, 3)), list);
+        assertFalse(list.equals(new ArrayLinkedList<>(List.of(1, 3, 2))));
+        assertFalse(list.equals(new ArrayLinkedList<>(List.of(1, 2))));
+        assertFalse(list.equals(List.of(1, 2, 3)));
+        assertEquals(new ArrayLinkedList<Integer>().hashCode(), List.of().hashCode());
+    }
+
+    @Test
+    void handlesStayValidUntilUnlinked() {
+        ArrayLinkedList<String> list = new ArrayLinkedList<>(2);
+        int b = list.linkLast("b");
+        int a = list.linkFirst("a");
+        int c = list.linkLast("c");
+        int ab = list.linkBefore(b, "ab");
+        assertEquals("[a, ab, b, c]", list.toString());
+        assertEquals("b", list.unlink(b));
+        assertThrows(IllegalArgumentException.class, () -> list.element(b));
+        assertThrows(IllegalArgumentException.class, () -> list.unlink(-1));
+        assertEquals("a", list.element(a));
+        assertEquals("ab", list.element(ab));
+        assertEquals("c", list.element(c));
+        list.compact();
+        assertEquals("[a, ab, c]", list.toString());
+        assertEquals("ab", list.get(1));
+    }
+
+    @Test
+    void iteratorRemovesAndFailsFast() {
+        ArrayLinkedList<Integer> list = new ArrayLinkedList<>(List.of(1, 2, 3, 4));
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) it.remove();
+        }
+        assertEquals(new ArrayLinkedList<>(List.of(1, 3)), list);
+        assertThrows(IllegalStateException.class, () -> list.iterator().remove());
+        Iterator<Integer> stale = list.iterator();
+        list.addFirst(0);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+        Iterator<Integer> empty = new ArrayLinkedList<Integer>().iterator();
+        assertThrows(NoSuchElementException.class, empty::next);
+    }
+
+    @Test
+    void freedSlotsAreReusedAndCompactKeepsOrder() {
+        ArrayLinkedList<Integer> list = new ArrayLinkedList<>(4);
+        int[] handles = new int[4];
+        for (int i = 0; i < 4; i++) handles[i] = list.linkLast(i);
+        list.unlink(handles[1]);
+        list.unlink(handles[2]);
+        int reused = list.linkFirst(-1);
+        assertTrue(reused == handles[1] || reused == handles[2]);
+        list.add(1, -2);
+        assertEquals("[-1, -2, 0, 3]", list.toString());
+        for (int i = 0; i < 100; i++) {
+            list.addFirst(i);
+            list.remove(list.size() - 1);
+        }
+        list.compact();
+        assertEquals("[99, 98, 97, 96]", list.toString());
+        assertEquals(97, list.get(2));
+    }
+}
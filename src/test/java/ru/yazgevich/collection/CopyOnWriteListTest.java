@@ -0,0 +1,86 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CopyOnWriteListTest {
+
+    @Test
+    void iteratorWalksSnapshot() {
+        CopyOnWriteList<Integer> list = new CopyOnWriteList<>(List.of(1, 2));
+        Iterator<Integer> it = list.iterator();
+        list.add(3);
+        list.remove(0);
+        list.set(0, -2);
+        assertEquals(1, it.next());
+        assertEquals(2, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+        assertEquals("[-2, 3]", list.toString());
+    }
+
+    @Test
+    void updatePublishesWholeBatch() {
+        CopyOnWriteList<Integer> list = new CopyOnWriteList<>(List.of(3, 1, 2));
+        Object[] before = list.toArray();
+        list.update(l -> {
+            l.set(0, 0);
+            l.remove(1);
+            l.add(4);
+            l.add(1, 1);
+            assertArrayEquals(before, list.toArray());
+        });
+        assertArrayEquals(new Object[]{0, 1, 2, 4}, list.toArray());
+        assertEquals(new CopyOnWriteList<>(List.of(0, 1, 2, 4)), list);
+        assertEquals(List.of(0, 1, 2, 4).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void failedUpdatePublishesNothing() {
+        CopyOnWriteList<Integer> list = new CopyOnWriteList<>(List.of(1, 2));
+        assertThrows(IllegalStateException.class, () -> list.update(l -> {
+            l.add(3);
+            throw new IllegalStateException();
+        }));
+        assertArrayEquals(new Object[]{1, 2}, list.toArray());
+    }
+
+    @Test
+    void subListAndArraysAreCopies() {
+        CopyOnWriteList<Integer> list = new CopyOnWriteList<>(List.of(1, 2, 3));
+        CopyOnWriteList<Integer> sub = list.subList(1, 3);
+        Object[] array = list.toArray();
+        list.set(1, -1);
+        array[0] = -1;
+        assertEquals(new CopyOnWriteList<>(List.of(2, 3)), sub);
+        assertEquals(1, list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(2, 4));
+    }
+
+    @Test
+    void constructorCopiesWhatToArrayReturns() {
+        List<Integer> content = List.of(1, 2);
+        AbstractCollection<Integer> growing = new AbstractCollection<>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return content.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 1;
+            }
+        };
+        assertArrayEquals(new Object[]{1, 2}, new CopyOnWriteList<>(growing).toArray());
+        assertEquals(0, new CopyOnWriteList<>(null).size());
+    }
+}
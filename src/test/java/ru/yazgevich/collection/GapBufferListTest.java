@@ -0,0 +1,53 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class GapBufferListTest {
+
+    @Test
+    void typingAndErasingAtMovingCursor() {
+        GapBufferList<Character> text = new GapBufferList<>(List.of('a', 'b', 'c', 'd'));
+        text.add(2, 'x');
+        text.add(3, 'y');
+        assertEquals('y', text.remove(3));
+        text.add(3, 'z');
+        text.add(0, '<');
+        text.add(text.size(), '>');
+        assertEquals('c', text.remove(5));
+        assertEquals("[<, a, b, x, z, d, >]", text.toString());
+    }
+
+    @Test
+    void gapMovesBothWaysWithoutLosingElements() {
+        GapBufferList<Integer> list = new GapBufferList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int index = (i % 2 == 0) ? expected.size() / 3 : expected.size() - expected.size() / 4;
+            list.add(index, i);
+            expected.add(index, i);
+            if (i % 5 == 4) assertEquals(expected.remove(index / 2), list.remove(index / 2));
+        }
+        for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), list.get(i));
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @Test
+    void wholeListOperationsSkipTheGap() {
+        GapBufferList<Integer> list = new GapBufferList<>(List.of(0, 1, 2, 3, 4, 5));
+        list.add(3, -1);
+        assertEquals(-1, list.remove(3));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5).hashCode(), list.hashCode());
+        assertEquals(new GapBufferList<>(List.of(0, 1, 2, 3, 4, 5)), list);
+        assertEquals(new GapBufferList<>(List.of(2, 3, 4)), list.subList(2, 5));
+        list.set(3, 30);
+        assertNotEquals(new GapBufferList<>(List.of(0, 1, 2, 3, 4, 5)), list);
+        assertEquals("[0, 1, 2, 30, 4, 5]", list.toString());
+    }
+}
@@ -0,0 +1,73 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListSerializerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsWhatWasWritten() throws IOException {
+        ListSerializer<Long> serializer = new ListSerializer<>(ElementCodec.LONG);
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (long i = 0; i < 100_000; i++) list.add(i * 31);
+        Path file = dir.resolve("list.bin");
+        serializer.write(list, file);
+        assertTrue(serializer.readArrayList(file).equals(list));
+        assertTrue(serializer.readLinkedList(file).equals(list));
+        serializer.write(new MyLinkedList<>(List.of(1L, 2L)), file);
+        assertTrue(serializer.readArrayList(file).equals(List.of(1L, 2L)));
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedFiles() throws IOException {
+        ListSerializer<Integer> serializer = new ListSerializer<>(ElementCodec.INT);
+        Path file = dir.resolve("list.bin");
+        serializer.write(new MyArrayList<>(List.of(1, 2, 3)), file);
+        assertThrows(IOException.class, () -> new ListSerializer<>(ElementCodec.LONG).readArrayList(file));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> serializer.readArrayList(file));
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> serializer.readLinkedList(file));
+    }
+
+    @Test
+    void headerRecordsSizeAndElementWidth() throws IOException {
+        Path file = dir.resolve("list.bin");
+        new ListSerializer<Double>(ElementCodec.DOUBLE).write(new MyArrayList<>(List.of(1.5, -2.0, 0.0)), file);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(24 + 3 * Double.BYTES, bytes.capacity());
+        assertEquals(Double.BYTES, bytes.getInt(8));
+        assertEquals(3L, bytes.getLong(16));
+        assertEquals(-2.0, bytes.getDouble(24 + Double.BYTES));
+    }
+
+    @Test
+    void failedWriteKeepsPreviousFile() throws IOException {
+        ListSerializer<Integer> serializer = new ListSerializer<>(ElementCodec.INT);
+        Path file = dir.resolve("list.bin");
+        serializer.write(new MyArrayList<>(List.of(1, 2, 3)), file);
+        byte[] before = Files.readAllBytes(file);
+        assertThrows(NullPointerException.class, () -> serializer.write(new MyArrayList<>(Arrays.asList(4, null)), file));
+        assertArrayEquals(before, Files.readAllBytes(file));
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LockFreeLinkedDequeTest {
+
+    @Test
+    void singleThreadMatchesArrayDeque() {
+        LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(8);
+        for (int i = 0; i < 20_000; i++) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    deque.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 1 -> {
+                    deque.addLast(i);
+                    expected.addLast(i);
+                }
+                case 2 -> assertEquals(expected.pollFirst(), deque.pollFirst());
+                default -> assertEquals(expected.pollLast(), deque.pollLast());
+            }
+            assertEquals(expected.peekFirst(), deque.peekFirst());
+            assertEquals(expected.peekLast(), deque.peekLast());
+            assertEquals(expected.size(), deque.size());
+            assertEquals(expected.isEmpty(), deque.isEmpty());
+        }
+        assertEquals(expected.toString(), deque.toString());
+    }
+
+    @Test
+    void emptyDequeAndNulls() {
+        LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertNull(deque.peekFirst());
+        assertEquals("[]", deque.toString());
+        assertThrows(NullPointerException.class, () -> deque.addFirst(null));
+        assertThrows(NullPointerException.class, () -> deque.addLast(null));
+        Iterator<Integer> it = deque.iterator();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void iteratorSkipsRemovedElements() {
+        LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+        for (int i = 0; i < 10; i++) deque.addLast(i);
+        Iterator<Integer> it = deque.iterator();
+        assertEquals(0, it.next());
+        for (int i = 0; i < 5; i++) deque.pollFirst();
+        List<Integer> rest = new ArrayList<>();
+        it.forEachRemaining(rest::add);
+        // the element read ahead before the polls is still returned
+        assertEquals(List.of(1, 5, 6, 7, 8, 9), rest);
+    }
+
+    @Test
+    void concurrentProducersAndConsumersDeliverEachElementOnce() throws InterruptedException {
+        LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+        int producers = 4;
+        int perProducer = 20_000;
+        int total = producers * perProducer;
+        AtomicIntegerArray delivered = new AtomicIntegerArray(total);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if ((i & 1) == 0) {
+                        deque.addFirst(base + i);
+                    } else {
+                        deque.addLast(base + i);
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < 4; c++) {
+            boolean first = (c & 1) == 0;
+            threads.add(new Thread(() -> {
+                for (int taken = 0; taken < total / 4; ) {
+                    Integer e = first ? deque.pollFirst() : deque.pollLast();
+                    if (e != null) {
+                        delivered.incrementAndGet(e);
+                        taken++;
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+        for (int i = 0; i < total; i++) assertEquals(1, delivered.get(i));
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+    }
+}
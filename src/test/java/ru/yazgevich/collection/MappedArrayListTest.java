@@ -0,0 +1,79 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedArrayListTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void elementsSurviveReopening() throws IOException {
+        Path file = dir.resolve("list.map");
+        try (MappedArrayList<Long> list = new MappedArrayList<>(file, ElementCodec.LONG, 4)) {
+            for (long i = 0; i < 10_000; i++) list.add(i * i);
+            assertTrue(list.capacity() >= 10_000);
+            assertEquals(49L, list.set(7, -1L));
+            list.force();
+        }
+        try (MappedArrayList<Long> list = new MappedArrayList<>(file, ElementCodec.LONG)) {
+            assertEquals(10_000, list.size());
+            assertEquals(-1L, list.get(7));
+            assertEquals(9_999L * 9_999L, list.get(9_999));
+            list.add(1L);
+            assertEquals(10_001, list.size());
+        }
+    }
+
+    @Test
+    void headerHoldsSizeAfterEveryAdd() throws IOException {
+        Path file = dir.resolve("list.map");
+        try (MappedArrayList<Integer> list = new MappedArrayList<>(file, ElementCodec.INT, 2)) {
+            list.add(5);
+            list.add(6);
+            list.add(7);
+            list.force();
+            ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals(Integer.BYTES, header.getInt(8));
+            assertEquals(3L, header.getLong(16));
+            assertEquals(list.capacity(), header.getLong(24));
+            assertEquals("[5, 6, 7]", list.toString());
+        }
+    }
+
+    @Test
+    void rejectsFileOfAnotherElementType() throws IOException {
+        Path file = dir.resolve("list.map");
+        new MappedArrayList<>(file, ElementCodec.INT).close();
+        assertThrows(IOException.class, () -> new MappedArrayList<>(file, ElementCodec.LONG));
+    }
+
+    @Test
+    void closedListRejectsAccess() throws IOException {
+        MappedArrayList<Integer> list = new MappedArrayList<>(dir.resolve("list.map"), ElementCodec.INT);
+        list.add(1);
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        list.close();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+    }
+
+    @Test
+    void rejectsShortFileWithoutChangingIt() throws IOException {
+        Path file = dir.resolve("short.map");
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> new MappedArrayList<>(file, ElementCodec.INT));
+        assertEquals(3, Files.size(file));
+    }
+}
@@ -0,0 +1,371 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MyArrayListTest {
+
+    @Test
+    void insertShiftsElementsAndGrowsWhenFull() {
+        MyArrayList<Integer> list = new MyArrayList<>(2);
+        list.add(1);
+        list.add(3);
+        list.add(1, 2);
+        list.add(0, 0);
+        for (int i = 0; i < 4; i++) assertEquals(i, list.get(i));
+        for (int i = 0; i < 100; i++) list.add(2, -i);
+        assertEquals(104, list.size());
+        assertEquals(1, list.get(1));
+        assertEquals(-99, list.get(2));
+        assertEquals(0, list.get(101));
+        assertEquals(3, list.get(103));
+    }
+
+    private static MyArrayList<Integer> filled(int n) {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < n; i++) list.add(i);
+        return list;
+    }
+
+    @Test
+    void streamsSeeAllElementsInOrder() {
+        MyArrayList<Integer> list = filled(10_000);
+        assertEquals(49_995_000L, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(49_995_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals("0,1,2", filled(3).parallelStream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void spliteratorSplitsInHalves() {
+        Spliterator<Integer> right = filled(100).spliterator();
+        assertEquals(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED, right.characteristics());
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(50, left.estimateSize());
+        assertEquals(50, right.estimateSize());
+        left.tryAdvance(e -> assertEquals(0, e));
+        right.tryAdvance(e -> assertEquals(50, e));
+        Spliterator<Integer> single = filled(1).spliterator();
+        assertNull(single.trySplit());
+    }
+
+    @Test
+    void spliteratorBindsLateAndFailsFast() {
+        MyArrayList<Integer> list = filled(3);
+        Spliterator<Integer> late = list.spliterator();
+        list.add(3);
+        assertEquals(4, late.estimateSize());
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(list::add));
+        assertTrue(list.size() > 4);
+    }
+
+    @Test
+    void subListWritesThroughToRoot() {
+        MyArrayList<Integer> list = filled(10);
+        MyArrayList<Integer> sub = list.subList(2, 6);
+        assertEquals(5, sub.set(3, -5));
+        assertEquals(-5, list.get(5));
+        list.set(2, -2);
+        assertEquals(-2, sub.get(0));
+        assertEquals("[-2, 3, 4, -5]", sub.toString());
+    }
+
+    @Test
+    void structuralChangesThroughNestedViewsResizeAllLevels() {
+        MyArrayList<Integer> list = filled(10);
+        MyArrayList<Integer> outer = list.subList(1, 9);
+        MyArrayList<Integer> inner = outer.subList(2, 4);
+        inner.add(-1);
+        inner.add(0, -2);
+        assertEquals(4, inner.size());
+        assertEquals(10, outer.size());
+        assertEquals(12, list.size());
+        assertEquals(-2, list.get(3));
+        assertEquals(-1, list.get(6));
+        assertEquals(5, list.get(7));
+        assertEquals(-2, inner.remove(0));
+        assertEquals(9, outer.size());
+        assertEquals(11, list.size());
+    }
+
+    @Test
+    void viewFailsAfterStructuralChangeToRoot() {
+        MyArrayList<Integer> list = filled(10);
+        MyArrayList<Integer> sub = list.subList(2, 6);
+        list.set(0, -1);
+        assertEquals(2, sub.get(0));
+        list.add(10);
+        assertThrows(ConcurrentModificationException.class, () -> sub.get(0));
+        assertThrows(ConcurrentModificationException.class, sub::size);
+    }
+
+    @Test
+    void viewSupportsStreamsAndListContract() {
+        MyArrayList<Integer> sub = filled(100).subList(10, 20);
+        assertEquals(145, sub.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(145, sub.parallelStream().mapToInt(Integer::intValue).sum());
+        MyArrayList<Integer> copy = new MyArrayList<>();
+        for (int i = 10; i < 20; i++) copy.add(i);
+        assertEquals(copy, sub);
+        assertEquals(sub, copy);
+        assertEquals(copy.hashCode(), sub.hashCode());
+    }
+
+    @Test
+    void insertAtSizeAppends() {
+        MyArrayList<Integer> list = new MyArrayList<>(0);
+        list.add(0, 1);
+        list.add(1, 2);
+        assertEquals(2, list.size());
+        assertEquals(2, list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, 0));
+    }
+
+    @Test
+    void bulkAddFromEverySourceKeepsOrder() {
+        MyArrayList<Integer> list = new MyArrayList<>(List.of(0, 9));
+        assertTrue(list.addAll(1, List.of(1, 2)));
+        assertTrue(list.addAll(3, new Integer[]{3, 4}));
+        assertTrue(list.addAll(5, new MyArrayList<>(List.of(5, 6))));
+        assertTrue(list.addAll(7, filled(9).subList(7, 9)));
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, list.toArray());
+        assertTrue(list.addAll(new Integer[]{10}));
+        assertTrue(list.addAll(List.of(11)));
+        assertEquals(12, list.size());
+        assertEquals(11, list.get(11));
+    }
+
+    @Test
+    void bulkAddOfEmptySourceDoesNotModify() {
+        MyArrayList<Integer> list = filled(3);
+        assertFalse(list.addAll(List.of()));
+        assertFalse(list.addAll(1, new Integer[0]));
+        assertFalse(list.addAll(new MyArrayList<>()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(4, List.of(1)));
+    }
+
+    @Test
+    void bulkAddOfItselfOrItsViewCopiesFirst() {
+        MyArrayList<Integer> list = filled(3);
+        list.addAll(list);
+        assertArrayEquals(new Object[]{0, 1, 2, 0, 1, 2}, list.toArray());
+        list.addAll(1, list.subList(0, 2));
+        assertArrayEquals(new Object[]{0, 0, 1, 1, 2, 0, 1, 2}, list.toArray());
+    }
+
+    @Test
+    void capacityChangesKeepContents() {
+        MyArrayList<Integer> list = filled(5);
+        list.ensureCapacity(1_000);
+        list.trimToSize();
+        list.add(5);
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5}, list.toArray());
+        MyArrayList<Integer> sub = list.subList(1, 3);
+        sub.ensureCapacity(100);
+        sub.trimToSize();
+        sub.addAll(new Integer[]{-1, -2});
+        assertArrayEquals(new Object[]{1, 2, -1, -2}, sub.toArray());
+        assertArrayEquals(new Object[]{0, 1, 2, -1, -2, 3, 4, 5}, list.toArray());
+    }
+
+    @Test
+    void removeIfCompactsInOnePass() {
+        MyArrayList<Integer> list = filled(20);
+        assertTrue(list.removeIf(e -> e % 3 != 0));
+        assertFalse(list.removeIf(e -> e < 0));
+        assertArrayEquals(new Object[]{0, 3, 6, 9, 12, 15, 18}, list.toArray());
+    }
+
+    @Test
+    void removeIfKeepsUntestedElementsWhenPredicateThrows() {
+        MyArrayList<Integer> list = filled(6);
+        assertThrows(IllegalStateException.class, () -> list.removeIf(e -> {
+            if (e == 3) throw new IllegalStateException();
+            return e % 2 == 0;
+        }));
+        assertArrayEquals(new Object[]{1, 3, 4, 5}, list.toArray());
+    }
+
+    @Test
+    void removeAllAndRetainAllUseMembership() {
+        MyArrayList<Integer> list = filled(40);
+        List<Integer> odd = new ArrayList<>();
+        for (int i = 1; i < 40; i += 2) odd.add(i);
+        assertTrue(list.removeAll(odd));
+        assertEquals(20, list.size());
+        assertTrue(list.retainAll(Set.of(0, 2, 38, 41)));
+        assertArrayEquals(new Object[]{0, 2, 38}, list.toArray());
+        assertFalse(list.retainAll(List.of(0, 2, 38)));
+    }
+
+    @Test
+    void rangeOperationsOnViewTouchOnlyItsRange() {
+        MyArrayList<Integer> list = filled(10);
+        MyArrayList<Integer> sub = list.subList(2, 8);
+        sub.removeRange(0, 2);
+        assertTrue(sub.removeIf(e -> e == 6));
+        assertFalse(sub.removeAll(List.of(0, 9)));
+        assertArrayEquals(new Object[]{4, 5, 7}, sub.toArray());
+        assertArrayEquals(new Object[]{0, 1, 4, 5, 7, 8, 9}, list.toArray());
+        list.removeRange(0, 7);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void sortAndSearchWorkInPlace() {
+        MyArrayList<String> list = new MyArrayList<>(List.of("pear", "fig", "apple", "kiwi"));
+        list.sort(null);
+        assertArrayEquals(new Object[]{"apple", "fig", "kiwi", "pear"}, list.toArray());
+        assertEquals(2, list.binarySearch("kiwi", null));
+        assertEquals(-1, list.binarySearch("a", null));
+        list.parallelSort(Comparator.comparing(String::length).thenComparing(Comparator.reverseOrder()));
+        assertArrayEquals(new Object[]{"fig", "pear", "kiwi", "apple"}, list.toArray());
+        assertEquals(3, list.binarySearch("apple", Comparator.comparing(String::length)));
+    }
+
+    @Test
+    void viewSortsOnlyItsRange() {
+        MyArrayList<Integer> list = new MyArrayList<>(List.of(9, 4, 3, 2, 1, 0));
+        MyArrayList<Integer> sub = list.subList(1, 5);
+        sub.sort(null);
+        assertArrayEquals(new Object[]{9, 1, 2, 3, 4, 0}, list.toArray());
+        assertEquals(3, sub.binarySearch(4, null));
+        sub.parallelSort(Comparator.reverseOrder());
+        assertArrayEquals(new Object[]{9, 4, 3, 2, 1, 0}, list.toArray());
+    }
+
+    @Test
+    void cachedHashCodeFollowsChanges() {
+        MyArrayList<Integer> list = filled(5);
+        list.setHashCodeCaching(true);
+        assertEquals(List.of(0, 1, 2, 3, 4).hashCode(), list.hashCode());
+        list.add(5);
+        list.addAll(List.of(6, 7));
+        list.addAll(new Integer[]{8});
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8).hashCode(), list.hashCode());
+        list.set(0, -1);
+        list.subList(1, 3).add(-2);
+        assertEquals(List.of(-1, 1, 2, -2, 3, 4, 5, 6, 7, 8).hashCode(), list.hashCode());
+        list.add(0, null);
+        list.removeIf(e -> e != null && e > 5);
+        assertEquals(Arrays.asList(null, -1, 1, 2, -2, 3, 4, 5).hashCode(), list.hashCode());
+        list.setHashCodeCaching(false);
+        list.add(6);
+        assertEquals(Arrays.asList(null, -1, 1, 2, -2, 3, 4, 5, 6).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void equalsComparesOnlyLiveElements() {
+        MyArrayList<Integer> shrunk = filled(10);
+        shrunk.removeRange(3, 10);
+        MyArrayList<Integer> fresh = new MyArrayList<>(100);
+        fresh.addAll(List.of(0, 1, 2));
+        assertEquals(fresh, shrunk);
+        assertEquals(shrunk, fresh);
+        assertEquals(fresh, filled(20).subList(0, 3));
+        assertEquals(filled(20).subList(0, 3), fresh);
+        fresh.add(3);
+        assertFalse(shrunk.equals(fresh));
+    }
+
+    @Test
+    void equalsAcceptsOtherListsSymmetrically() {
+        MyArrayList<Integer> list = filled(3);
+        MyLinkedList<Integer> linked = new MyLinkedList<>(List.of(0, 1, 2));
+        assertTrue(list.equals(linked));
+        assertTrue(linked.equals(list));
+        assertTrue(list.equals(List.of(0, 1, 2)));
+        assertTrue(linked.equals(List.of(0, 1, 2)));
+        assertTrue(list.subList(1, 3).equals(List.of(1, 2)));
+        assertFalse(list.equals(List.of(0, 1)));
+        assertFalse(list.equals(Set.of(0, 1, 2)));
+    }
+
+    @Test
+    void equalsWithCachedHashesStillComparesElements() {
+        MyArrayList<Integer> a = filled(4);
+        MyArrayList<Integer> b = filled(4);
+        a.setHashCodeCaching(true);
+        b.setHashCodeCaching(true);
+        a.hashCode();
+        b.hashCode();
+        assertEquals(a, b);
+        b.set(3, 30);
+        b.hashCode();
+        assertFalse(a.equals(b));
+    }
+
+    @Test
+    void textSkipsCapacitySlotsAndIsBounded() {
+        MyArrayList<Integer> list = new MyArrayList<>(100);
+        list.addAll(List.of(1, 2, 3, 4));
+        assertEquals("[1, 2, 3, 4]", list.toString());
+        assertEquals("[1, 2, ...2 more]", list.toString(2));
+        assertEquals("[...4 more]", list.toString(0));
+        assertEquals("[2, ...1 more]", list.subList(1, 3).toString(1));
+        assertEquals("[]", list.subList(2, 2).toString());
+    }
+
+    @Test
+    void writeToStreamsLongText() throws IOException {
+        MyArrayList<Integer> list = filled(10_000);
+        StringWriter out = new StringWriter();
+        list.writeTo(out);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) expected.append(i == 0 ? "[" : ", ").append(i);
+        assertEquals(expected.append(']').toString(), out.toString());
+        StringBuilder bounded = new StringBuilder("text: ");
+        list.writeTo(bounded, 3);
+        assertEquals("text: [0, 1, 2, ...9997 more]", bounded.toString());
+    }
+
+    @Test
+    void collectionConstructorTrustsToArrayOverSize() {
+        List<Integer> content = List.of(1, 2);
+        AbstractCollection<Integer> shrinking = new AbstractCollection<>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return content.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 5;
+            }
+        };
+        MyArrayList<Integer> list = new MyArrayList<>(shrinking);
+        assertEquals(2, list.size());
+        assertArrayEquals(new Object[]{1, 2}, list.toArray());
+    }
+
+    @Test
+    void viewIgnoresHashCodeCaching() {
+        MyArrayList<Integer> list = filled(6);
+        MyArrayList<Integer> sub = list.subList(1, 4);
+        sub.setHashCodeCaching(true);
+        assertEquals(List.of(1, 2, 3).hashCode(), sub.hashCode());
+        list.set(2, -2);
+        sub.add(4);
+        assertEquals(List.of(1, -2, 3, 4).hashCode(), sub.hashCode());
+    }
+}
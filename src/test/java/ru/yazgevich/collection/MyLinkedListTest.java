@@ -0,0 +1,258 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MyLinkedListTest {
+
+    private static MyLinkedList<Integer> filled(int n) {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = 0; i < n; i++) list.add(i);
+        return list;
+    }
+
+    @Test
+    void sequentialAndBackwardAccessByIndex() {
+        MyLinkedList<Integer> list = filled(1_000);
+        for (int i = 0; i < list.size(); i++) assertEquals(i, list.get(i));
+        for (int i = list.size() - 1; i >= 0; i--) assertEquals(i, list.set(i, -i));
+        assertEquals(-500, list.get(500));
+    }
+
+    @Test
+    void fingerIsNotUsedAfterStructuralChange() {
+        MyLinkedList<Integer> list = filled(1_000);
+        assertEquals(600, list.get(600));
+        list.addFirst(-1);
+        assertEquals(599, list.get(600));
+        assertEquals(10, list.remove(11));
+        list.remove(0);
+        assertEquals(601, list.get(600));
+        list.addLast(1_000);
+        assertEquals(1_000, list.get(list.size() - 1));
+    }
+
+    @Test
+    void insertAndRemoveAtEnds() {
+        MyLinkedList<String> list = new MyLinkedList<>(List.of("b"));
+        list.add(0, "a");
+        list.add(2, "d");
+        list.add(2, "c");
+        assertEquals("[a, b, c, d]", list.toString());
+        assertEquals("a", list.remove(0));
+        assertEquals("d", list.remove(2));
+        assertEquals("b", list.remove(0));
+        assertEquals("c", list.remove(0));
+        assertEquals(0, list.size());
+        list.add(0, "x");
+        assertEquals("[x]", list.toString());
+    }
+
+    @Test
+    void rejectsIndexesOutsideList() {
+        MyLinkedList<Integer> list = filled(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+    }
+
+    @Test
+    void subListCopiesRangeInOrder() {
+        MyLinkedList<Integer> list = filled(10);
+        MyLinkedList<Integer> sub = list.subList(3, 7);
+        assertEquals("[3, 4, 5, 6]", sub.toString());
+        sub.set(0, -1);
+        sub.add(7);
+        assertEquals(3, list.get(3));
+        assertEquals(10, list.size());
+        assertEquals(new MyLinkedList<>(List.of(-1, 4, 5, 6, 7)), sub);
+        assertEquals("[]", list.subList(5, 5).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(5, 11));
+    }
+
+    @Test
+    void spliceMovesDonorNodesAndEmptiesDonor() {
+        MyLinkedList<Integer> list = new MyLinkedList<>(List.of(2, 5));
+        MyLinkedList<Integer> front = new MyLinkedList<>(List.of(0, 1));
+        MyLinkedList<Integer> middle = new MyLinkedList<>(List.of(3, 4));
+        MyLinkedList<Integer> back = new MyLinkedList<>(List.of(6));
+        assertTrue(list.insertAll(0, front));
+        assertTrue(list.insertAll(3, middle));
+        assertTrue(list.appendAll(back));
+        assertEquals("[0, 1, 2, 3, 4, 5, 6]", list.toString());
+        assertEquals(7, list.size());
+        assertEquals(0, front.size());
+        assertEquals("[]", middle.toString());
+        back.add(7);
+        assertEquals("[7]", back.toString());
+        assertEquals(6, list.get(6));
+        assertFalse(list.appendAll(new MyLinkedList<>()));
+        assertThrows(IllegalArgumentException.class, () -> list.appendAll(list));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAll(8, back));
+    }
+
+    @Test
+    void splitCutsListInTwo() {
+        MyLinkedList<Integer> list = filled(6);
+        MyLinkedList<Integer> tail = list.split(4);
+        assertEquals("[0, 1, 2, 3]", list.toString());
+        assertEquals("[4, 5]", tail.toString());
+        list.addLast(-1);
+        tail.addFirst(-2);
+        assertEquals(-1, list.get(4));
+        assertEquals(-2, tail.get(0));
+        assertEquals(0, list.split(list.size()).size());
+        MyLinkedList<Integer> all = list.split(0);
+        assertEquals(0, list.size());
+        assertEquals("[0, 1, 2, 3, -1]", all.toString());
+        list.appendAll(all);
+        assertEquals(3, list.get(3));
+    }
+
+    @Test
+    void removeIfRemovesMatchingElements() {
+        MyLinkedList<Integer> list = filled(20);
+        assertTrue(list.removeIf(e -> e % 2 == 0));
+        assertFalse(list.removeIf(e -> e > 100));
+        assertEquals("[1, 3, 5, 7, 9, 11, 13, 15, 17, 19]", list.toString());
+        assertEquals(19, list.get(9));
+        assertTrue(list.removeIf(e -> true));
+        assertEquals(0, list.size());
+        list.add(1);
+        assertEquals("[1]", list.toString());
+    }
+
+    @Test
+    void listIteratorMovesAndEdits() {
+        MyLinkedList<Integer> list = new MyLinkedList<>(List.of(1, 2, 3));
+        ListIterator<Integer> it = list.listIterator(1);
+        assertEquals(2, it.next());
+        it.set(20);
+        it.add(25);
+        assertEquals(3, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+        assertEquals(3, it.previous());
+        it.remove();
+        assertEquals(25, it.previous());
+        assertEquals(2, it.nextIndex());
+        assertEquals("[1, 20, 25]", list.toString());
+        ListIterator<Integer> fresh = list.listIterator(0);
+        assertThrows(IllegalStateException.class, fresh::remove);
+    }
+
+    @Test
+    void iteratorFailsAfterStructuralChange() {
+        MyLinkedList<Integer> list = new MyLinkedList<>(List.of(1, 2, 3));
+        Iterator<Integer> it = list.iterator();
+        it.next();
+        list.add(4);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        ListIterator<Integer> other = list.listIterator(0);
+        list.remove(0);
+        assertThrows(ConcurrentModificationException.class, other::next);
+    }
+
+    @Test
+    void cachedHashCodeFollowsChanges() {
+        MyLinkedList<Integer> list = filled(3);
+        assertEquals(List.of(0, 1, 2).hashCode(), list.hashCode());
+        list.setHashCodeCaching(true);
+        assertEquals(List.of(0, 1, 2).hashCode(), list.hashCode());
+        list.add(3);
+        list.addLast(4);
+        assertEquals(List.of(0, 1, 2, 3, 4).hashCode(), list.hashCode());
+        list.addFirst(-1);
+        list.set(1, 10);
+        assertEquals(List.of(-1, 10, 1, 2, 3, 4).hashCode(), list.hashCode());
+        ListIterator<Integer> it = list.listIterator(2);
+        it.next();
+        it.set(11);
+        assertEquals(List.of(-1, 10, 11, 2, 3, 4).hashCode(), list.hashCode());
+        list.removeIf(e -> e > 9);
+        assertEquals(List.of(-1, 2, 3, 4).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void textIsBoundedAndStreamed() throws IOException {
+        MyLinkedList<Integer> list = filled(5);
+        assertEquals("[0, 1, 2, 3, 4]", list.toString());
+        assertEquals("[0, 1, ...3 more]", list.toString(2));
+        StringBuilder out = new StringBuilder();
+        list.writeTo(out, 10);
+        assertEquals("[0, 1, 2, 3, 4]", out.toString());
+        assertEquals("[]", new MyLinkedList<>().toString(1));
+    }
+
+    @Test
+    void recycledNodesKeepListConsistent() {
+        MyLinkedList<Integer> list = filled(10);
+        list.setNodePoolSize(4);
+        for (int i = 10; i < 1_000; i++) {
+            list.addLast(i);
+            assertEquals(i - 10, list.remove(0));
+        }
+        assertEquals("[990, 991, 992, 993, 994, 995, 996, 997, 998, 999]", list.toString());
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) if (it.next() % 2 == 0) it.remove();
+        list.removeIf(e -> e % 3 == 0);
+        list.addFirst(-1);
+        list.add(2, -2);
+        assertEquals("[-1, 991, -2, 995, 997]", list.toString());
+        assertTrue(list.equals(List.of(-1, 991, -2, 995, 997)));
+    }
+
+    @Test
+    void disablingPoolKeepsList() {
+        MyLinkedList<Integer> list = filled(5);
+        list.setNodePoolSize(8);
+        list.remove(0);
+        list.remove(0);
+        list.setNodePoolSize(0);
+        list.add(5);
+        assertEquals("[2, 3, 4, 5]", list.toString());
+        assertThrows(IllegalArgumentException.class, () -> list.setNodePoolSize(-1));
+    }
+
+    @Test
+    void removeIfFailsWhenPredicateModifiesList() {
+        MyLinkedList<Integer> list = new MyLinkedList<>(List.of(1, 2, 3));
+        assertThrows(ConcurrentModificationException.class, () -> list.removeIf(e -> list.add(0)));
+        MyLinkedList<Integer> other = new MyLinkedList<>(List.of(1, 2, 3));
+        assertThrows(ConcurrentModificationException.class, () -> other.removeIf(e -> {
+            other.remove(other.size() - 1);
+            return false;
+        }));
+    }
+
+    @Test
+    void collectionConstructorCountsAddedElements() {
+        List<Integer> content = List.of(1, 2, 3);
+        AbstractCollection<Integer> stale = new AbstractCollection<>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return content.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 1;
+            }
+        };
+        MyLinkedList<Integer> list = new MyLinkedList<>(stale);
+        assertEquals(3, list.size());
+        assertEquals(3, list.get(2));
+    }
+}
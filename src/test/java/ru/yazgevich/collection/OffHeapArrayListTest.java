@@ -0,0 +1,123 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapArrayListTest {
+
+    /**
+     * A 12-byte codec, so that the offsets are not a power of two.
+     */
+    private static final ElementCodec<Point> POINT = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return 12;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Point element) {
+            buffer.putInt(offset, element.x()).putLong(offset + 4, element.y());
+        }
+
+        @Override
+        public Point read(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getInt(offset), buffer.getLong(offset + 4));
+        }
+    };
+
+    private record Point(int x, long y) {
+    }
+
+    @Test
+    void elementsSurviveGrowthAndShifts() {
+        try (OffHeapArrayList<Point> list = new OffHeapArrayList<>(POINT, 1)) {
+            for (int i = 0; i < 1_000; i++) list.add(new Point(i, -i));
+            list.add(0, new Point(-1, 1));
+            list.add(500, new Point(-2, 2));
+            assertEquals(new Point(-2, 2), list.remove(500));
+            assertEquals(new Point(-1, 1), list.remove(0));
+            assertEquals(new Point(999, -999), list.set(999, new Point(0, 0)));
+            assertEquals(1_000, list.size());
+            for (int i = 0; i < 999; i++) assertEquals(new Point(i, -i), list.get(i));
+            assertEquals(new Point(0, 0), list.get(999));
+        }
+    }
+
+    @Test
+    void hashAndTextMatchListOfBoxedValues() {
+        try (OffHeapArrayList<Double> list = new OffHeapArrayList<>(ElementCodec.DOUBLE)) {
+            list.add(1.5);
+            list.add(-0.0);
+            assertEquals(List.of(1.5, -0.0).hashCode(), list.hashCode());
+            assertEquals("[1.5, -0.0]", list.toString());
+        }
+    }
+
+    @Test
+    void subListHasItsOwnStorage() {
+        try (OffHeapArrayList<Long> list = new OffHeapArrayList<>(ElementCodec.LONG)) {
+            for (long i = 0; i < 5; i++) list.add(i);
+            try (OffHeapArrayList<Long> sub = list.subList(1, 4)) {
+                sub.set(0, 10L);
+                sub.add(11L);
+                assertEquals(1L, list.get(1));
+                assertEquals("[10, 2, 3, 11]", sub.toString());
+                assertNotEquals(list, sub);
+            }
+            assertEquals(list.subList(0, 5), list);
+        }
+    }
+
+    @Test
+    void rejectsNullsAndBadIndexes() {
+        try (OffHeapArrayList<Integer> list = new OffHeapArrayList<>(ElementCodec.INT)) {
+            list.add(1);
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertThrows(NullPointerException.class, () -> list.set(0, null));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, 2));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapArrayList<>(ElementCodec.INT, -1));
+    }
+
+    @Test
+    void closedListRejectsAccess() {
+        OffHeapArrayList<Integer> list = new OffHeapArrayList<>(ElementCodec.INT);
+        list.add(1);
+        list.close();
+        list.close();
+        assertEquals(0, list.size());
+        assertThrows(IllegalStateException.class, () -> list.add(2));
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, list::toString);
+    }
+
+    @Test
+    void closeReleasesNativeMemoryAtOnce() {
+        BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .findFirst()
+                .orElseThrow();
+        OffHeapArrayList<Long> list = new OffHeapArrayList<>(ElementCodec.LONG);
+        for (long i = 0; i < 1_000_000; i++) list.add(i);
+        long filled = direct.getMemoryUsed();
+        list.close();
+        assertTrue(filled - direct.getMemoryUsed() >= 1_000_000L * Long.BYTES);
+    }
+
+    @Test
+    void rejectsCapacityBeyondOneBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapArrayList<>(ElementCodec.LONG, 600_000_000));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapArrayList<>(POINT, Integer.MAX_VALUE / 12 + 1));
+    }
+}
@@ -0,0 +1,98 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrimitiveArrayListTest {
+
+    @Test
+    void hashAndTextMatchListOfBoxedValues() {
+        IntArrayList ints = new IntArrayList(new int[]{Integer.MIN_VALUE, -1, 0, 7});
+        assertEquals(List.of(Integer.MIN_VALUE, -1, 0, 7).hashCode(), ints.hashCode());
+        assertEquals(List.of(Integer.MIN_VALUE, -1, 0, 7).toString(), ints.toString());
+        LongArrayList longs = new LongArrayList(new long[]{Long.MAX_VALUE, -1L << 40, 3});
+        assertEquals(List.of(Long.MAX_VALUE, -1L << 40, 3L).hashCode(), longs.hashCode());
+        assertEquals(List.of(Long.MAX_VALUE, -1L << 40, 3L).toString(), longs.toString());
+        DoubleArrayList doubles = new DoubleArrayList(new double[]{-0.0, Double.NaN, 1.5});
+        assertEquals(List.of(-0.0, Double.NaN, 1.5).hashCode(), doubles.hashCode());
+        assertEquals(List.of(-0.0, Double.NaN, 1.5).toString(), doubles.toString());
+        assertEquals("[]", new IntArrayList().toString());
+    }
+
+    @Test
+    void doubleEqualityFollowsDoubleEquals() {
+        DoubleArrayList nan = new DoubleArrayList(new double[]{Double.NaN});
+        assertEquals(new DoubleArrayList(new double[]{Double.NaN}), nan);
+        assertNotEquals(new DoubleArrayList(new double[]{0.0}), new DoubleArrayList(new double[]{-0.0}));
+    }
+
+    @Test
+    void insertAndRemoveShiftValues() {
+        LongArrayList list = new LongArrayList(0);
+        for (long i = 0; i < 100; i++) list.add(i);
+        list.add(0, -1);
+        list.add(50, -2);
+        list.add(list.size(), -3);
+        assertEquals(103, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(48, list.get(49));
+        assertEquals(-2, list.remove(50));
+        assertEquals(49, list.set(50, 500));
+        assertEquals(-3, list.remove(list.size() - 1));
+        assertEquals(-1, list.remove(0));
+        assertEquals(100, list.size());
+        assertEquals(500, list.get(49));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(101, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+    }
+
+    @Test
+    void subListAndArraysAreCopies() {
+        int[] values = {1, 2, 3, 4};
+        IntArrayList list = new IntArrayList(values);
+        values[0] = 10;
+        assertEquals(1, list.get(0));
+        IntArrayList sub = list.subList(1, 3);
+        sub.set(0, 20);
+        sub.add(5);
+        assertArrayEquals(new int[]{1, 2, 3, 4}, list.toArray());
+        assertArrayEquals(new int[]{20, 3, 5}, sub.toArray());
+        list.toArray()[0] = 0;
+        assertEquals(1, list.get(0));
+        list.addAll(new int[]{5, 6});
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(3, 2));
+    }
+
+    @Test
+    void rejectsNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongArrayList(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleArrayList(-1));
+    }
+
+    @Test
+    void sortAndSearchOnlyTheUsedRange() {
+        IntArrayList ints = new IntArrayList(100);
+        ints.addAll(new int[]{5, -3, 9, 1});
+        ints.sort();
+        assertArrayEquals(new int[]{-3, 1, 5, 9}, ints.toArray());
+        assertEquals(2, ints.binarySearch(5));
+        assertEquals(-1, ints.binarySearch(-10));
+        assertEquals(-2, ints.binarySearch(0));
+        LongArrayList longs = new LongArrayList(new long[]{3, 2, 1});
+        longs.add(0);
+        longs.parallelSort();
+        assertArrayEquals(new long[]{0, 1, 2, 3}, longs.toArray());
+        DoubleArrayList doubles = new DoubleArrayList(new double[]{Double.NaN, 0.0, -0.0, -1});
+        doubles.sort();
+        assertArrayEquals(new double[]{-1, -0.0, 0.0, Double.NaN}, doubles.toArray());
+        assertEquals(3, doubles.binarySearch(Double.NaN));
+    }
+}
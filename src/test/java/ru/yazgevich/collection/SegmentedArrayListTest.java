@@ -0,0 +1,80 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SegmentedArrayListTest {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private static SegmentedArrayList<Integer> filled(int n) {
+        SegmentedArrayList<Integer> list = new SegmentedArrayList<>();
+        for (int i = 0; i < n; i++) list.add(i);
+        return list;
+    }
+
+    private static List<Integer> snapshot(SegmentedArrayList<Integer> list) {
+        List<Integer> result = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) result.add(list.get(i));
+        return result;
+    }
+
+    @Test
+    void appendsAcrossChunkBoundaries() {
+        SegmentedArrayList<Integer> list = filled(3 * CHUNK_SIZE + 1);
+        assertEquals(CHUNK_SIZE - 1, list.get(CHUNK_SIZE - 1));
+        assertEquals(CHUNK_SIZE, list.get(CHUNK_SIZE));
+        assertEquals(3 * CHUNK_SIZE, list.get(3 * CHUNK_SIZE));
+    }
+
+    @Test
+    void insertAndRemoveShiftElementsBetweenChunks() {
+        SegmentedArrayList<Integer> list = filled(2 * CHUNK_SIZE + 10);
+        List<Integer> expected = snapshot(list);
+        for (int index : new int[]{0, CHUNK_SIZE - 1, CHUNK_SIZE, 2 * CHUNK_SIZE + 5}) {
+            list.add(index, -index - 1);
+            expected.add(index, -index - 1);
+        }
+        assertEquals(expected, snapshot(list));
+        for (int index : new int[]{CHUNK_SIZE, 0, CHUNK_SIZE - 1}) {
+            assertEquals(expected.remove(index), list.remove(index));
+        }
+        assertEquals(expected.remove(expected.size() - 1), list.remove(list.size() - 1));
+        assertEquals(expected, snapshot(list));
+    }
+
+    @Test
+    void removingLastElementOfChunkClearsSlot() {
+        SegmentedArrayList<String> list = new SegmentedArrayList<>();
+        for (int i = 0; i <= CHUNK_SIZE; i++) list.add("e" + i);
+        assertEquals("e" + CHUNK_SIZE, list.remove(CHUNK_SIZE));
+        list.add(null);
+        assertNull(list.get(CHUNK_SIZE));
+        assertEquals(CHUNK_SIZE + 1, list.size());
+    }
+
+    @Test
+    void subListIsACopySpanningChunks() {
+        SegmentedArrayList<Integer> list = filled(CHUNK_SIZE + 10);
+        SegmentedArrayList<Integer> sub = list.subList(CHUNK_SIZE - 2, CHUNK_SIZE + 2);
+        assertEquals(List.of(CHUNK_SIZE - 2, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1), snapshot(sub));
+        sub.set(0, -1);
+        assertEquals(CHUNK_SIZE - 2, list.get(CHUNK_SIZE - 2));
+    }
+
+    @Test
+    void equalityAndHashFollowListContract() {
+        SegmentedArrayList<Integer> list = filled(CHUNK_SIZE + 3);
+        assertEquals(filled(CHUNK_SIZE + 3), list);
+        assertEquals(snapshot(list).hashCode(), list.hashCode());
+        assertNotEquals(filled(CHUNK_SIZE + 2), list);
+        list.set(CHUNK_SIZE + 1, -1);
+        assertNotEquals(filled(CHUNK_SIZE + 3), list);
+    }
+}
@@ -0,0 +1,70 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StripedArrayListTest {
+
+    private static final int REGION_SIZE = 1024;
+
+    @Test
+    void setsInOwnRegionsSurviveConcurrentGrowth() throws InterruptedException {
+        int threads = 4;
+        StripedArrayList<Integer> list = new StripedArrayList<>(16);
+        for (int i = 0; i < threads * REGION_SIZE; i++) list.add(0);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * REGION_SIZE;
+            workers.add(new Thread(() -> {
+                for (int round = 1; round <= 20; round++) {
+                    for (int i = 0; i < REGION_SIZE; i++) list.set(base + i, round);
+                }
+            }));
+        }
+        workers.add(new Thread(() -> {
+            for (int i = 0; i < 50_000; i++) list.add(-1);
+        }));
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        assertEquals(threads * REGION_SIZE + 50_000, list.size());
+        for (int i = 0; i < threads * REGION_SIZE; i++) assertEquals(20, list.get(i));
+        assertEquals(-1, list.get(list.size() - 1));
+    }
+
+    @Test
+    void insertAndRemoveMoveElementsAcrossRegions() {
+        StripedArrayList<Integer> list = new StripedArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 3 * REGION_SIZE; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        for (int index : new int[]{0, REGION_SIZE - 1, REGION_SIZE, 2 * REGION_SIZE + 1}) {
+            list.add(index, -index);
+            expected.add(index, -index);
+            assertEquals(expected.remove(index + 1), list.remove(index + 1));
+        }
+        assertArrayEquals(expected.toArray(), list.toArray());
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    void subListIsASnapshotCopy() {
+        StripedArrayList<Integer> list = new StripedArrayList<>();
+        list.addAll(List.of(1, 2, 3, 4));
+        StripedArrayList<Integer> sub = list.subList(1, 3);
+        list.set(1, -2);
+        sub.add(5);
+        assertArrayEquals(new Object[]{2, 3, 5}, sub.toArray());
+        assertEquals(4, list.size());
+        StripedArrayList<Integer> copy = new StripedArrayList<>();
+        copy.addAll(List.of(2, 3, 5));
+        assertEquals(copy, sub);
+    }
+}
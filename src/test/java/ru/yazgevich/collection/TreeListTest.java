@@ -0,0 +1,124 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TreeListTest {
+
+    @Test
+    void equalsComparesElementsInOrder() {
+        TreeList<Integer> list = new TreeList<>(List.of(1, 2, 3));
+        assertEquals(new TreeList<>(List.of(1, 2, 3)), list);
+        assertFalse(list.equals(new TreeList<>(List.of(1, 3, 2))));
+        assertFalse(list.equals(new TreeList<>(List.of(1, 2))));
+        assertFalse(list.equals(List.of(1, 2, 3)));
+        assertEquals(new TreeList<Integer>().hashCode(), List.of().hashCode());
+    }
+
+    @Test
+    void addsAtBothEnds() {
+        TreeList<Integer> list = new TreeList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addFirst(-i);
+            list.addLast(i);
+        }
+        assertEquals(200, list.size());
+        assertEquals(-99, list.get(0));
+        assertEquals(99, list.get(199));
+    }
+
+    @Test
+    void splitAndConcatKeepOrder() {
+        TreeList<Integer> list = new TreeList<>();
+        for (int i = 0; i < 1_000; i++) list.add(i);
+        TreeList<Integer> tail = list.split(400);
+        assertEquals(400, list.size());
+        assertEquals(600, tail.size());
+        assertEquals(400, tail.get(0));
+        list.concat(tail);
+        assertEquals(0, tail.size());
+        assertEquals(1_000, list.size());
+        for (int i = 0; i < 1_000; i++) assertEquals(i, list.get(i));
+        assertThrows(IllegalArgumentException.class, () -> list.concat(list));
+    }
+
+    @Test
+    void subListIsViewOfRange() {
+        TreeList<Integer> list = new TreeList<>(List.of(0, 1, 2, 3, 4, 5));
+        TreeList<Integer> sub = list.subList(1, 5);
+        sub.set(0, 10);
+        assertEquals(10, list.get(1));
+        sub.add(1, 11);
+        assertEquals(4, sub.remove(4));
+        TreeList<Integer> inner = sub.subList(1, 3);
+        inner.add(0, 12);
+        assertEquals(3, inner.size());
+        assertEquals(5, sub.size());
+        assertEquals(new TreeList<>(List.of(10, 12, 11, 2, 3)), sub);
+        assertEquals(List.of(10, 12, 11, 2, 3).hashCode(), sub.hashCode());
+        assertEquals(new TreeList<>(List.of(0, 10, 12, 11, 2, 3, 5)), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.get(5));
+        assertThrows(UnsupportedOperationException.class, () -> sub.split(0));
+    }
+
+    @Test
+    void subListFailsAfterStructuralChangeOfRoot() {
+        TreeList<Integer> list = new TreeList<>(List.of(0, 1, 2, 3));
+        TreeList<Integer> sub = list.subList(1, 3);
+        list.set(0, 5);
+        assertEquals(1, sub.get(0));
+        list.add(4);
+        assertThrows(ConcurrentModificationException.class, () -> sub.get(0));
+        assertThrows(ConcurrentModificationException.class, sub::size);
+        assertThrows(ConcurrentModificationException.class, sub::hashCode);
+        assertThrows(ConcurrentModificationException.class, () -> sub.equals(new TreeList<>()));
+    }
+
+    @Test
+    void positionalEditsAnywhereKeepOrder() {
+        TreeList<Integer> list = new TreeList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i / 2, i);
+            expected.add(i / 2, i);
+        }
+        for (int i = 0; i < 300; i++) assertEquals(expected.remove(i * 2), list.remove(i * 2));
+        for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), list.get(i));
+    }
+
+    @Test
+    void equalityAndHashWalkOnlyTheRange() {
+        TreeList<Integer> list = new TreeList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Integer e = i % 7 == 0 ? null : i;
+            list.add(i / 3, e);
+            expected.add(i / 3, e);
+        }
+        assertEquals(expected.hashCode(), list.hashCode());
+        TreeList<Integer> view = list.subList(100, 300).subList(50, 150);
+        assertEquals(expected.subList(150, 250).hashCode(), view.hashCode());
+        assertEquals(new TreeList<>(expected.subList(150, 250)), view);
+        assertEquals(view, new TreeList<>(expected.subList(150, 250)));
+        assertFalse(view.equals(new TreeList<>(expected.subList(151, 251))));
+        assertEquals(Arrays.asList(null, 1).hashCode(), new TreeList<>(Arrays.asList(null, 1)).hashCode());
+    }
+
+    @Test
+    void concatRejectsSublistViews() {
+        TreeList<Integer> list = new TreeList<>(List.of(0, 1, 2, 3));
+        TreeList<Integer> other = new TreeList<>(List.of(4, 5));
+        assertThrows(IllegalArgumentException.class, () -> list.concat(list.subList(1, 3)));
+        assertThrows(IllegalArgumentException.class, () -> list.concat(other.subList(0, 1)));
+        assertEquals(new TreeList<>(List.of(0, 1, 2, 3)), list);
+        assertEquals(new TreeList<>(List.of(4, 5)), other);
+    }
+}
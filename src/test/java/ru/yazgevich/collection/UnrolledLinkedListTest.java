@@ -0,0 +1,88 @@
+package ru.yazgevich.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class UnrolledLinkedListTest {
+
+    private static final int NODE_CAPACITY = 64;
+
+    private static List<Integer> snapshot(UnrolledLinkedList<Integer> list) {
+        List<Integer> result = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) result.add(list.get(i));
+        return result;
+    }
+
+    @Test
+    void insertingIntoFullNodesKeepsOrder() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < NODE_CAPACITY; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 4 * NODE_CAPACITY; i++) {
+            int index = (i * 7) % (expected.size() + 1);
+            list.add(index, -i);
+            expected.add(index, -i);
+        }
+        assertEquals(expected, snapshot(list));
+    }
+
+    @Test
+    void removalsEmptyingAndMergingNodesKeepOrder() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10 * NODE_CAPACITY; i++) {
+            list.addLast(i);
+            expected.add(i);
+        }
+        for (int i = 0; expected.size() > NODE_CAPACITY; i++) {
+            int index = (i * 13) % expected.size();
+            assertEquals(expected.remove(index), list.remove(index));
+        }
+        assertEquals(expected, snapshot(list));
+        while (!expected.isEmpty()) assertEquals(expected.remove(0), list.remove(0));
+        assertEquals("[]", list.toString());
+        list.addFirst(1);
+        assertEquals("[1]", list.toString());
+    }
+
+    @Test
+    void addFirstFillsNodesFromTheFront() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        for (int i = 0; i < 3 * NODE_CAPACITY; i++) list.addFirst(i);
+        for (int i = 0; i < list.size(); i++) assertEquals(list.size() - 1 - i, list.get(i));
+    }
+
+    @Test
+    void subListCopiesRangeAcrossNodes() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        for (int i = 0; i < 3 * NODE_CAPACITY; i++) list.add(i);
+        UnrolledLinkedList<Integer> sub = list.subList(NODE_CAPACITY - 1, 2 * NODE_CAPACITY + 1);
+        assertEquals(NODE_CAPACITY + 2, sub.size());
+        assertEquals(NODE_CAPACITY - 1, sub.get(0));
+        assertEquals(2 * NODE_CAPACITY, sub.get(sub.size() - 1));
+        sub.set(0, -1);
+        assertEquals(NODE_CAPACITY - 1, list.get(NODE_CAPACITY - 1));
+    }
+
+    @Test
+    void equalityIgnoresNodeLayout() {
+        UnrolledLinkedList<Integer> appended = new UnrolledLinkedList<>();
+        UnrolledLinkedList<Integer> prepended = new UnrolledLinkedList<>();
+        for (int i = 0; i < 2 * NODE_CAPACITY; i++) {
+            appended.addLast(i);
+            prepended.addFirst(2 * NODE_CAPACITY - 1 - i);
+        }
+        assertEquals(appended, prepended);
+        assertEquals(snapshot(appended).hashCode(), prepended.hashCode());
+        prepended.set(NODE_CAPACITY, null);
+        assertNotEquals(appended, prepended);
+    }
+}